@@ -17,6 +17,7 @@
 
 package com.fordlabs.hungrymoose;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -24,6 +25,8 @@ import lombok.NoArgsConstructor;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
+// Fields such as timeout only matter to the JUnit runner
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class Scenario {
 
     private String name;
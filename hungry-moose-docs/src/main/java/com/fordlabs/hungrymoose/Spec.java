@@ -17,13 +17,14 @@
 
 package com.fordlabs.hungrymoose;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLParser;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -33,6 +34,7 @@ import static java.util.stream.Collectors.toList;
 public class Spec extends File {
 
     private static final long serialVersionUID = 2434952503855264076L;
+    private static final String LOAD_DOCUMENT_FIELD = "load";
 
     public Spec(String pathname) {
         super(pathname);
@@ -68,7 +70,14 @@ public class Spec extends File {
             YAMLParser yamlParser = new YAMLFactory().createParser(fileStream);
             ObjectMapper mapper = new ObjectMapper();
             mapper.findAndRegisterModules();
-            return mapper.readValues(yamlParser, new TypeReference<Scenario>(){}).readAll();
+            List<Scenario> scenarios = new ArrayList<>();
+            for (JsonNode document : mapper.readValues(yamlParser, JsonNode.class).readAll()) {
+                // The load stages of a spec file are only read by the JUnit runner
+                if (!document.has(LOAD_DOCUMENT_FIELD)) {
+                    scenarios.add(mapper.treeToValue(document, Scenario.class));
+                }
+            }
+            return scenarios;
         }
         catch (Exception e) {
             throw new ScenarioParsingException(e);
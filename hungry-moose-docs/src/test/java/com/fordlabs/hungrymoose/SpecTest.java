@@ -95,6 +95,18 @@ class SpecTest {
         assertThat(actualScenarios).isEqualTo(expectedScenarios);
     }
 
+    @Test
+    void SkipsTheLoadStagesOfASpec() throws ScenarioParsingException {
+        Spec specFromFile = new Spec("src/test/resources/api/Plants/Bamboo.yaml");
+
+        assertThat(specFromFile.getScenarios()).containsExactly(
+                new Scenario(
+                        "How fast does bamboo grow",
+                        null,
+                        "GET /bamboo/growth HTTP/1.1",
+                        "HTTP/1.1 200 OK\n\nUp to 91 cm a day.\n"));
+    }
+
     @Test
     void CanCorrectlyReturnPathAfterRootPathAsUrlEncodedString() {
         Spec spec = new Spec("src/test/resources/api/Animals/Fish and Sea Mammals/Bottle-Nosed Dolphin.yaml");
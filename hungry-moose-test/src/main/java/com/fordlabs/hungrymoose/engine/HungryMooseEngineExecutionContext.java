@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.engine;
+
+import com.fordlabs.hungrymoose.testing.HungryMooseTestRunner;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+
+/**
+ * Carries the runner of the spec class being executed down to its scenarios, {@code null} above spec classes.
+ */
+@Getter
+@AllArgsConstructor
+class HungryMooseEngineExecutionContext implements EngineExecutionContext {
+    private final HungryMooseTestRunner testRunner;
+}
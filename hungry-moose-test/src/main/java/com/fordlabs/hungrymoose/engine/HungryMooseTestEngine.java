@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.engine;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+import java.util.Locale;
+
+/**
+ * JUnit Platform engine running spec classes that are not JUnit 4 {@code @RunWith} classes, one test per scenario.
+ * Parallelism follows the {@code junit.jupiter.execution.parallel.*} configuration parameters.
+ */
+public class HungryMooseTestEngine extends HierarchicalTestEngine<HungryMooseEngineExecutionContext> {
+
+    public static final String ENGINE_ID = "hungry-moose";
+    public static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.jupiter.execution.parallel.enabled";
+    public static final String DEFAULT_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.default";
+    public static final String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.classes.default";
+    public static final String PARALLEL_CONFIG_PREFIX = "junit.jupiter.execution.parallel.config.";
+
+    @Override
+    public String getId() {
+        return ENGINE_ID;
+    }
+
+    @Override
+    public TestDescriptor discover(final EngineDiscoveryRequest discoveryRequest, final UniqueId uniqueId) {
+        final ConfigurationParameters configuration = discoveryRequest.getConfigurationParameters();
+        final ExecutionMode scenarioMode = getExecutionMode(configuration, DEFAULT_EXECUTION_MODE_PROPERTY_NAME, ExecutionMode.SAME_THREAD);
+        final ExecutionMode classMode = getExecutionMode(configuration, DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME, scenarioMode);
+
+        final EngineDescriptor engineDescriptor = new EngineDescriptor(uniqueId, "HungryMoose");
+        EngineDiscoveryRequestResolver.<EngineDescriptor>builder()
+                .addClassContainerSelectorResolver(SpecClassDescriptor::isSpecClass)
+                .addSelectorResolver(context -> new SpecSelectorResolver(context.getEngineDescriptor().getUniqueId(), classMode, scenarioMode))
+                .build()
+                .resolve(discoveryRequest, engineDescriptor);
+        return engineDescriptor;
+    }
+
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(final ExecutionRequest request) {
+        final ConfigurationParameters configuration = request.getConfigurationParameters();
+        if (configuration.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
+            return new ForkJoinPoolHierarchicalTestExecutorService(new PrefixedConfigurationParameters(configuration, PARALLEL_CONFIG_PREFIX));
+        }
+        return super.createExecutorService(request);
+    }
+
+    @Override
+    protected HungryMooseEngineExecutionContext createExecutionContext(final ExecutionRequest request) {
+        return new HungryMooseEngineExecutionContext(null);
+    }
+
+    private static ExecutionMode getExecutionMode(final ConfigurationParameters configuration, final String key, final ExecutionMode defaultMode) {
+        return configuration.get(key)
+                .map(value -> ExecutionMode.valueOf(value.trim().toUpperCase(Locale.ROOT)))
+                .orElse(defaultMode);
+    }
+}
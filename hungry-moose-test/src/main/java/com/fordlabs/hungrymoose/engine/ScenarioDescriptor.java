@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.engine;
+
+import com.fordlabs.hungrymoose.model.Scenario;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClasspathResourceSource;
+import org.junit.platform.engine.support.hierarchical.Node;
+
+/**
+ * A scenario of a spec class, identified by its position in the spec file since names don't have to be unique.
+ */
+class ScenarioDescriptor extends AbstractTestDescriptor implements Node<HungryMooseEngineExecutionContext> {
+
+    static final String SEGMENT_TYPE = "scenario";
+
+    private final Scenario scenario;
+    private final ExecutionMode executionMode;
+
+    ScenarioDescriptor(final UniqueId parentId, final int index, final Scenario scenario, final String specFileLocation, final ExecutionMode executionMode) {
+        super(parentId.append(SEGMENT_TYPE, String.valueOf(index)), scenario.getName(), ClasspathResourceSource.from(specFileLocation));
+        this.scenario = scenario;
+        this.executionMode = executionMode;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.TEST;
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return this.executionMode;
+    }
+
+    @Override
+    public HungryMooseEngineExecutionContext execute(final HungryMooseEngineExecutionContext context, final DynamicTestExecutor dynamicTestExecutor) throws Exception {
+        try {
+            context.getTestRunner().runTestCase(context.getTestRunner().getTestCase(this.scenario));
+        } catch (final Exception | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        return context;
+    }
+}
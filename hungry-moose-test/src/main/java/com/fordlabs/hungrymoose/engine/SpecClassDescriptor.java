@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.engine;
+
+import com.fordlabs.hungrymoose.model.Scenario;
+import com.fordlabs.hungrymoose.testing.HungryMooseTestRunner;
+import com.fordlabs.hungrymoose.testing.ScenarioParser;
+import com.fordlabs.hungrymoose.testing.ScenarioSchedule;
+import com.fordlabs.hungrymoose.testing.Shard;
+import com.fordlabs.hungrymoose.testing.SpecsFromResourcePath;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.hierarchical.Node;
+import org.junit.runner.RunWith;
+import org.springframework.core.annotation.AnnotationUtils;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A spec class. Its application is started and its {@link BeforeClass} methods run before its first scenario, its
+ * {@link AfterClass} methods run and its connections are released after the last one.
+ */
+class SpecClassDescriptor extends AbstractTestDescriptor implements Node<HungryMooseEngineExecutionContext> {
+
+    static final String SEGMENT_TYPE = "class";
+
+    private final Class<?> testClass;
+    private final String specFileLocation;
+    private final ExecutionMode executionMode;
+    private final ExecutionMode scenarioExecutionMode;
+    private List<Scenario> scenarios;
+
+    SpecClassDescriptor(final UniqueId parentId, final Class<?> testClass, final ExecutionMode executionMode, final ExecutionMode scenarioExecutionMode) {
+        super(parentId.append(SEGMENT_TYPE, testClass.getName()), testClass.getSimpleName(), ClassSource.from(testClass));
+        this.testClass = testClass;
+        this.specFileLocation = AnnotationUtils.findAnnotation(testClass, SpecsFromResourcePath.class).value();
+        this.executionMode = executionMode;
+        this.scenarioExecutionMode = scenarioExecutionMode;
+    }
+
+    static boolean isSpecClass(final Class<?> candidate) {
+        return AnnotationUtils.findAnnotation(candidate, SpecsFromResourcePath.class) != null
+                && candidate.getEnclosingClass() == null
+                && !Modifier.isAbstract(candidate.getModifiers())
+                // Left to the vintage and Jupiter engines
+                && AnnotationUtils.findAnnotation(candidate, RunWith.class) == null
+                && ReflectionSupport.findMethods(candidate, method -> AnnotationSupport.isAnnotated(method, Testable.class), HierarchyTraversalMode.TOP_DOWN).isEmpty();
+    }
+
+    /**
+     * The spec file is only read once a scenario of this class is actually selected. Scenarios of other shards are
+     * left out of the test plan altogether.
+     */
+    private synchronized List<Scenario> getScenarios() {
+        if (this.scenarios == null) {
+            this.scenarios = Shard.current().select(this.specFileLocation, ScenarioParser.parse(this.testClass, this.specFileLocation));
+        }
+        return this.scenarios;
+    }
+
+    Set<DiscoverySelector> getScenarioSelectors() {
+        final Set<DiscoverySelector> selectors = new LinkedHashSet<>();
+        for (int index = 0; index < getScenarios().size(); index++) {
+            selectors.add(DiscoverySelectors.selectUniqueId(getUniqueId().append(ScenarioDescriptor.SEGMENT_TYPE, String.valueOf(index))));
+        }
+        return selectors;
+    }
+
+    Optional<ScenarioDescriptor> createScenario(final int index) {
+        if (index < 0 || index >= getScenarios().size()) {
+            return Optional.empty();
+        }
+        return Optional.of(new ScenarioDescriptor(getUniqueId(), index, getScenarios().get(index), this.specFileLocation, getScenarioExecutionMode()));
+    }
+
+    /**
+     * The platform cannot order concurrent siblings, so a spec file with groups or scenarios that are not parallel
+     * runs its scenarios one after the other in file order, which satisfies every dependency.
+     */
+    private ExecutionMode getScenarioExecutionMode() {
+        return ScenarioSchedule.of(getScenarios()).isConstrained() ? ExecutionMode.SAME_THREAD : this.scenarioExecutionMode;
+    }
+
+    @Override
+    public Type getType() {
+        return Type.CONTAINER;
+    }
+
+    @Override
+    public String getLegacyReportingName() {
+        return this.testClass.getName();
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return this.executionMode;
+    }
+
+    @Override
+    public HungryMooseEngineExecutionContext before(final HungryMooseEngineExecutionContext context) throws Exception {
+        final HungryMooseTestRunner testRunner = HungryMooseTestRunner.from(this.testClass, getScenarios());
+        try {
+            testRunner.runApplication();
+            runClassLevelMethods(BeforeClass.class, HierarchyTraversalMode.TOP_DOWN);
+        } catch (final Exception | Error e) {
+            testRunner.close();
+            throw e;
+        }
+        return new HungryMooseEngineExecutionContext(testRunner);
+    }
+
+    @Override
+    public void after(final HungryMooseEngineExecutionContext context) throws Exception {
+        try {
+            runClassLevelMethods(AfterClass.class, HierarchyTraversalMode.BOTTOM_UP);
+        } finally {
+            if (context.getTestRunner() != null) {
+                context.getTestRunner().close();
+            }
+        }
+    }
+
+    /**
+     * Runs the static methods the JUnit 4 runner runs around a spec class, superclass ones first for setup and last
+     * for teardown.
+     */
+    private void runClassLevelMethods(final Class<? extends Annotation> annotation, final HierarchyTraversalMode order) {
+        for (final Method method : ReflectionSupport.findMethods(this.testClass,
+                candidate -> Modifier.isStatic(candidate.getModifiers()) && AnnotationSupport.isAnnotated(candidate, annotation), order)) {
+            ReflectionSupport.invokeMethod(method, null);
+        }
+    }
+}
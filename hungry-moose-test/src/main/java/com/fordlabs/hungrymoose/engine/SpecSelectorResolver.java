@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.engine;
+
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassSelector;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.discovery.SelectorResolver;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.unresolved;
+
+/**
+ * Resolves spec classes, and single scenarios selected by unique id as IDEs do to rerun one of them.
+ */
+class SpecSelectorResolver implements SelectorResolver {
+
+    private final UniqueId engineId;
+    private final ExecutionMode classExecutionMode;
+    private final ExecutionMode scenarioExecutionMode;
+
+    SpecSelectorResolver(final UniqueId engineId, final ExecutionMode classExecutionMode, final ExecutionMode scenarioExecutionMode) {
+        this.engineId = engineId;
+        this.classExecutionMode = classExecutionMode;
+        this.scenarioExecutionMode = scenarioExecutionMode;
+    }
+
+    @Override
+    public Resolution resolve(final ClassSelector selector, final Context context) {
+        final Class<?> testClass = selector.getJavaClass();
+        if (!SpecClassDescriptor.isSpecClass(testClass)) {
+            return unresolved();
+        }
+        return context.addToParent(parent -> Optional.of(new SpecClassDescriptor(parent.getUniqueId(), testClass, this.classExecutionMode, this.scenarioExecutionMode)))
+                .map(descriptor -> Resolution.match(Match.exact(descriptor, descriptor::getScenarioSelectors)))
+                .orElse(unresolved());
+    }
+
+    @Override
+    public Resolution resolve(final UniqueIdSelector selector, final Context context) {
+        final UniqueId uniqueId = selector.getUniqueId();
+        final List<UniqueId.Segment> segments = uniqueId.getSegments();
+        if (!uniqueId.hasPrefix(this.engineId) || segments.size() < 2 || !SpecClassDescriptor.SEGMENT_TYPE.equals(segments.get(1).getType())) {
+            return unresolved();
+        }
+        final Optional<Class<?>> testClass = ReflectionSupport.tryToLoadClass(segments.get(1).getValue()).toOptional();
+        if (!testClass.isPresent()) {
+            return unresolved();
+        }
+        final DiscoverySelector classSelector = DiscoverySelectors.selectClass(testClass.get());
+        if (segments.size() == 2) {
+            return Resolution.selectors(Collections.singleton(classSelector));
+        }
+        if (segments.size() != 3 || !ScenarioDescriptor.SEGMENT_TYPE.equals(segments.get(2).getType())) {
+            return unresolved();
+        }
+
+        final int index;
+        try {
+            index = Integer.parseInt(segments.get(2).getValue());
+        } catch (final NumberFormatException e) {
+            return unresolved();
+        }
+        return context.addToParent(() -> classSelector, parent -> parent instanceof SpecClassDescriptor ? ((SpecClassDescriptor) parent).createScenario(index) : Optional.empty())
+                .map(descriptor -> Resolution.match(Match.exact(descriptor)))
+                .orElse(unresolved());
+    }
+}
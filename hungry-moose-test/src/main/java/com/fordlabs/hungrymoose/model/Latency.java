@@ -0,0 +1,83 @@
+/*
+ *
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.fordlabs.hungrymoose.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A latency in a spec file, written with one of the units {@code ns}, {@code us}, {@code ms} or {@code s} such as
+ * {@code 150ms} or {@code 1.5s}, or as a plain number of milliseconds.
+ */
+@Getter
+@EqualsAndHashCode
+public class Latency {
+
+    private static final Pattern FORMAT = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(ns|us|ms|s)?");
+
+    private final long nanos;
+
+    @JsonCreator
+    public static Latency from(final String textRepresentation) {
+        final Matcher matcher = FORMAT.matcher(textRepresentation.trim());
+        if (!matcher.matches()) {
+            throw new InvalidLatencyException(String.format("'%s' is not a valid latency, e.g. 150ms or 1.5s", textRepresentation));
+        }
+        final double value = Double.parseDouble(matcher.group(1));
+        return new Latency(Math.round(value * toNanos(matcher.group(2) == null ? "ms" : matcher.group(2))));
+    }
+
+    @JsonCreator
+    public static Latency ofMillis(final long millis) {
+        return new Latency(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static long toNanos(final String unit) {
+        switch (unit) {
+            case "ns":
+                return 1;
+            case "us":
+                return TimeUnit.MICROSECONDS.toNanos(1);
+            case "ms":
+                return TimeUnit.MILLISECONDS.toNanos(1);
+            default:
+                return TimeUnit.SECONDS.toNanos(1);
+        }
+    }
+
+    private Latency(final long nanos) {
+        this.nanos = nanos;
+    }
+
+    public double getMillis() {
+        return this.nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%.2f ms", getMillis());
+    }
+}
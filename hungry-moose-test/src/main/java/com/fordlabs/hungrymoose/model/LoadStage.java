@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One stage of the optional {@code load:} document of a spec file, the stages run one after the other.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadStage {
+    private String name;
+    /**
+     * How long the stage lasts in milliseconds.
+     */
+    private long duration;
+    /**
+     * Requests per second at the start of the stage, ramping linearly to {@link #targetRps}. Defaults to it.
+     */
+    private Double fromRps;
+    /**
+     * Requests per second at the end of the stage, as fast as responses come back when not set.
+     */
+    private Double targetRps;
+    /**
+     * Concurrent executions during the stage, replacing the suite's.
+     */
+    private Integer concurrency;
+}
@@ -18,14 +18,46 @@
 package com.fordlabs.hungrymoose.model;
 
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
+@Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Scenario {
     private String name;
     private Request request;
     private Response response;
+    /**
+     * Read and total timeout for this scenario in milliseconds, replacing the suite's.
+     */
+    private Long timeout;
+    /**
+     * Scenarios sharing a group run one after the other, in file order.
+     */
+    private String group;
+    /**
+     * {@code false} runs this scenario alone, after every scenario before it and before any scenario after it.
+     */
+    private Boolean parallel;
+    /**
+     * Latency no execution of this scenario may exceed.
+     */
+    private Latency maxLatency;
+    /**
+     * Latency budgets by percentile of all executions of this scenario, keyed like {@code p95} or {@code p99.9}.
+     */
+    private Map<String, Latency> latency;
+
+    public Scenario(final String name, final Request request, final Response response) {
+        this(name, request, response, null, null, null, null, null);
+    }
+
+    public boolean canRunInParallel() {
+        return this.parallel == null || this.parallel;
+    }
 }
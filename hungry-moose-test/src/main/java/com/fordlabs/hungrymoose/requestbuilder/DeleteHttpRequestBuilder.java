@@ -24,7 +24,7 @@ import java.net.URI;
 
 public class DeleteHttpRequestBuilder extends HttpRequestBuilder {
     @Override
-    protected HttpRequestBase createRequest(URI uri, String body) throws Exception {
+    protected HttpRequestBase createRequest(URI uri, byte[] body) throws Exception {
         return new HttpDelete(uri);
     }
 }
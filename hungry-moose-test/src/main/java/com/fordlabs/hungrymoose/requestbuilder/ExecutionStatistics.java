@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timings of the executions of one scenario. Queueing time is spent waiting for an in-flight permit, service time is
+ * spent sending the request and reading its response, so a slow target is told apart from a saturated client.
+ */
+public class ExecutionStatistics {
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder memoized = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAccumulator maxQueueNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder serviceNanos = new LongAdder();
+    private final LongAccumulator maxServiceNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder responses = new LongAdder();
+    private final LongAdder responseNanos = new LongAdder();
+    private final LongAccumulator maxResponseNanos = new LongAccumulator(Math::max, 0);
+
+    void recordShed() {
+        this.shed.increment();
+    }
+
+    void recordMemoized() {
+        this.memoized.increment();
+    }
+
+    void record(final long queueNanos, final long serviceNanos) {
+        this.executions.increment();
+        this.queueNanos.add(queueNanos);
+        this.maxQueueNanos.accumulate(queueNanos);
+        this.serviceNanos.add(serviceNanos);
+        this.maxServiceNanos.accumulate(serviceNanos);
+    }
+
+    /**
+     * Records the time from when a request was meant to be sent to when its response was verified. Under an open loop
+     * load this includes any delay before sending it, which service times alone would hide.
+     */
+    public void recordResponseTime(final long responseNanos) {
+        this.responses.increment();
+        this.responseNanos.add(responseNanos);
+        this.maxResponseNanos.accumulate(responseNanos);
+    }
+
+    /**
+     * Adds statistics recorded separately, such as those of one load stage, to these.
+     */
+    public void add(final ExecutionStatistics other) {
+        this.executions.add(other.executions.sum());
+        this.shed.add(other.shed.sum());
+        this.memoized.add(other.memoized.sum());
+        this.queueNanos.add(other.queueNanos.sum());
+        this.maxQueueNanos.accumulate(other.maxQueueNanos.get());
+        this.serviceNanos.add(other.serviceNanos.sum());
+        this.maxServiceNanos.accumulate(other.maxServiceNanos.get());
+        this.responses.add(other.responses.sum());
+        this.responseNanos.add(other.responseNanos.sum());
+        this.maxResponseNanos.accumulate(other.maxResponseNanos.get());
+    }
+
+    public long getExecutions() {
+        return this.executions.sum();
+    }
+
+    public long getShed() {
+        return this.shed.sum();
+    }
+
+    public long getMemoized() {
+        return this.memoized.sum();
+    }
+
+    public long getMaxQueueNanos() {
+        return this.maxQueueNanos.get();
+    }
+
+    public long getMaxServiceNanos() {
+        return this.maxServiceNanos.get();
+    }
+
+    public long getMaxResponseNanos() {
+        return this.maxResponseNanos.get();
+    }
+
+    public double getMeanQueueMillis() {
+        return mean(this.queueNanos.sum());
+    }
+
+    public double getMeanServiceMillis() {
+        return mean(this.serviceNanos.sum());
+    }
+
+    public double getMeanResponseMillis() {
+        final long count = this.responses.sum();
+        return count == 0 ? 0 : toMillis(this.responseNanos.sum()) / count;
+    }
+
+    private double mean(final long totalNanos) {
+        final long count = getExecutions();
+        return count == 0 ? 0 : toMillis(totalNanos) / count;
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        final String result = String.format("%d executions, %d shed, %d memoized, queueing mean %.2f ms max %.2f ms, service mean %.2f ms max %.2f ms",
+                getExecutions(), getShed(), getMemoized(),
+                getMeanQueueMillis(), toMillis(getMaxQueueNanos()),
+                getMeanServiceMillis(), toMillis(getMaxServiceNanos()));
+        if (this.responses.sum() == 0) {
+            return result;
+        }
+        return result + String.format(", response time mean %.2f ms max %.2f ms", getMeanResponseMillis(), toMillis(getMaxResponseNanos()));
+    }
+}
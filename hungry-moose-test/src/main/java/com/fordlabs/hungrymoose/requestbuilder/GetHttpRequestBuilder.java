@@ -24,7 +24,7 @@ import java.net.URI;
 
 public class GetHttpRequestBuilder extends HttpRequestBuilder {
     @Override
-    protected HttpRequestBase createRequest(URI uri, String body) {
+    protected HttpRequestBase createRequest(URI uri, byte[] body) {
         return new HttpGet(uri);
     }
 }
@@ -20,25 +20,33 @@ package com.fordlabs.hungrymoose.requestbuilder;
 import com.fordlabs.hungrymoose.model.Request;
 import com.fordlabs.hungrymoose.testing.UriUnderTest;
 import org.apache.http.NameValuePair;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.springframework.http.HttpHeaders;
+import org.apache.http.entity.ContentType;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public abstract class HttpRequestBuilder {
 
-    protected abstract HttpRequestBase createRequest(final URI uri, final String body) throws Exception;
+    // Same content type a UTF-8 StringEntity declares, a Content-Type header from the scenario still takes precedence
+    protected static final ContentType BODY_CONTENT_TYPE = ContentType.create(ContentType.TEXT_PLAIN.getMimeType(), StandardCharsets.UTF_8);
 
-    public HttpRequestBase buildHttpRequest(final UriUnderTest serverUnderTest, final Request requestToTest) throws Exception {
-        final URI uri = buildURI(serverUnderTest, requestToTest);
-        final HttpRequestBase httpRequest = createRequest(uri, requestToTest.getBody());
-        setHeaders(httpRequest, requestToTest.getHeaders());
+    protected abstract HttpRequestBase createRequest(final URI uri, final byte[] body) throws Exception;
+
+    public HttpRequestBase buildHttpRequest(final PreparedRequest preparedRequest) throws Exception {
+        final HttpRequestBase httpRequest = createRequest(preparedRequest.getUri(), preparedRequest.getBody());
+        setHeaders(httpRequest, preparedRequest);
+        httpRequest.setConfig(RequestConfig.custom()
+                .setConnectTimeout((int) preparedRequest.getTimeouts().getConnectMillis())
+                .setSocketTimeout((int) preparedRequest.getTimeouts().getReadMillis())
+                .build());
         return httpRequest;
     }
 
-    private URI buildURI(final UriUnderTest serverUnderTest, final Request requestToTest) {
+    public static URI buildURI(final UriUnderTest serverUnderTest, final Request requestToTest) {
         final UriComponentsBuilder uriBuilder = UriComponentsBuilder.newInstance()
                 .scheme(serverUnderTest.getTransferProtocol())
                 .host(serverUnderTest.getHost())
@@ -49,17 +57,15 @@ public abstract class HttpRequestBuilder {
         return uriBuilder.build().toUri();
     }
 
-    private void addQueryParams(final UriComponentsBuilder uriBuilder, final List<NameValuePair> queryParams) {
+    private static void addQueryParams(final UriComponentsBuilder uriBuilder, final List<NameValuePair> queryParams) {
         for (final NameValuePair queryParam : queryParams) {
             uriBuilder.queryParam(queryParam.getName(), queryParam.getValue());
         }
     }
 
-    private void setHeaders(final HttpRequestBase httpRequest, final HttpHeaders headers) {
-        for (var entry : headers.entrySet()) {
-            for (String value : entry.getValue()) {
-                httpRequest.setHeader(entry.getKey(), value);
-            }
+    private void setHeaders(final HttpRequestBase httpRequest, final PreparedRequest preparedRequest) {
+        for (int i = 0; i < preparedRequest.getHeaderCount(); i++) {
+            httpRequest.setHeader(preparedRequest.getHeaderName(i), preparedRequest.getHeaderValue(i));
         }
     }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+import com.fordlabs.hungrymoose.testing.InFlightLimit.Overflow;
+import lombok.Getter;
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Hands out one permit per outstanding request. A limit of {@code 0} means no limit.
+ */
+public class InFlightLimiter {
+
+    @Getter
+    private final int limit;
+    @Getter
+    private final Overflow overflow;
+    private final Semaphore permits;
+
+    public InFlightLimiter(final int limit, final Overflow overflow) {
+        Validate.isTrue(limit >= 0, "In-flight limit can't be negative");
+        Validate.notNull(overflow, "overflow can't be null");
+        this.limit = limit;
+        this.overflow = overflow;
+        this.permits = limit == 0 ? null : new Semaphore(limit);
+    }
+
+    public static InFlightLimiter unlimited() {
+        return new InFlightLimiter(0, Overflow.WAIT);
+    }
+
+    /**
+     * @return {@code false} when the request has to be shed, otherwise the caller owns a permit and must
+     * {@link #release()} it
+     */
+    boolean acquire() throws InterruptedException {
+        if (this.permits == null) {
+            return true;
+        }
+        if (this.overflow == Overflow.SHED) {
+            return this.permits.tryAcquire();
+        }
+        this.permits.acquire();
+        return true;
+    }
+
+    void release() {
+        if (this.permits != null) {
+            this.permits.release();
+        }
+    }
+}
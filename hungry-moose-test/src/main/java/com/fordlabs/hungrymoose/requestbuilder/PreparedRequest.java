@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+import com.fordlabs.hungrymoose.model.HttpMethod;
+import com.fordlabs.hungrymoose.model.Request;
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+import com.fordlabs.hungrymoose.transport.Timeouts;
+import lombok.Getter;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A scenario request compiled once against a server under test, shared by every execution of the scenario.
+ */
+public class PreparedRequest {
+
+    private static final byte[] NO_BODY = new byte[0];
+
+    @Getter
+    private final HttpMethod method;
+    @Getter
+    private final URI uri;
+    private final String[] headers;
+    /**
+     * Shared by every execution, callers must not modify it.
+     */
+    @Getter
+    private final byte[] body;
+    @Getter
+    private final Timeouts timeouts;
+
+    private PreparedRequest(final HttpMethod method, final URI uri, final String[] headers, final byte[] body, final Timeouts timeouts) {
+        this.method = method;
+        this.uri = uri;
+        this.headers = headers;
+        this.body = body;
+        this.timeouts = timeouts;
+    }
+
+    public static PreparedRequest compile(final UriUnderTest serverUnderTest, final Request request) {
+        return compile(serverUnderTest, request, Timeouts.none());
+    }
+
+    public static PreparedRequest compile(final UriUnderTest serverUnderTest, final Request request, final Timeouts timeouts) {
+        final List<String> headers = new ArrayList<>();
+        for (final Map.Entry<String, List<String>> header : request.getHeaders().entrySet()) {
+            for (final String value : header.getValue()) {
+                headers.add(header.getKey());
+                headers.add(value);
+            }
+        }
+        final HttpMethod method = request.getRequestLine().getMethod();
+        return new PreparedRequest(
+                method,
+                HttpRequestBuilder.buildURI(serverUnderTest, request),
+                headers.toArray(new String[0]),
+                hasBody(method) ? request.getBody().getBytes(StandardCharsets.UTF_8) : NO_BODY,
+                timeouts);
+    }
+
+    public static boolean hasBody(final HttpMethod method) {
+        switch (method) {
+            case POST:
+            case PUT:
+            case PATCH:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public boolean hasBody() {
+        return hasBody(this.method);
+    }
+
+    public int getHeaderCount() {
+        return this.headers.length / 2;
+    }
+
+    public String getHeaderName(final int index) {
+        return this.headers[2 * index];
+    }
+
+    public String getHeaderValue(final int index) {
+        return this.headers[2 * index + 1];
+    }
+
+    List<String> getFlattenedHeaders() {
+        return Collections.unmodifiableList(Arrays.asList(this.headers));
+    }
+
+    @Override
+    public String toString() {
+        return this.method + " " + this.uri;
+    }
+}
@@ -19,15 +19,15 @@ package com.fordlabs.hungrymoose.requestbuilder;
 
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.entity.StringEntity;
+import org.apache.http.entity.ByteArrayEntity;
 
 import java.net.URI;
 
 public class PutHttpRequestBuilder extends HttpRequestBuilder {
     @Override
-    protected HttpRequestBase createRequest(URI uri, String body) {
+    protected HttpRequestBase createRequest(URI uri, byte[] body) {
         final HttpPut request = new HttpPut(uri);
-        request.setEntity(new StringEntity(body, "UTF-8"));
+        request.setEntity(new ByteArrayEntity(body, BODY_CONTENT_TYPE));
         return request;
     }
 }
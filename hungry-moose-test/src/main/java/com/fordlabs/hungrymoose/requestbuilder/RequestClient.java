@@ -18,20 +18,25 @@
 package com.fordlabs.hungrymoose.requestbuilder;
 
 import com.fordlabs.hungrymoose.model.HttpMethod;
-import com.fordlabs.hungrymoose.model.Request;
+import com.fordlabs.hungrymoose.model.Scenario;
 import com.fordlabs.hungrymoose.testing.UriUnderTest;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
+import com.fordlabs.hungrymoose.transport.HttpTransport;
+import com.fordlabs.hungrymoose.transport.Timeouts;
+import com.fordlabs.hungrymoose.transport.TransportResponse;
 import org.apache.http.client.methods.HttpRequestBase;
-import org.apache.http.impl.client.HttpClientBuilder;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static com.fordlabs.hungrymoose.model.HttpMethod.*;
+import static java.util.stream.Collectors.toList;
 
-public class RequestClient {
+public class RequestClient implements Closeable {
 
     private static final Map<HttpMethod, HttpRequestBuilder> httpRequestBuilders = new HashMap<>();
 
@@ -43,21 +48,111 @@ public class RequestClient {
         httpRequestBuilders.put(DELETE, new DeleteHttpRequestBuilder());
     }
 
-    public static HttpResponse getResponse(final UriUnderTest serverUnderTest, final Request request) throws Exception {
-        final HttpRequestBase httpRequest = RequestClient.createRequest(serverUnderTest, request);
-        return submitRequest(httpRequest);
+    private final Supplier<List<UriUnderTest>> serversUnderTest;
+    private final AtomicInteger nextServer = new AtomicInteger();
+    private final Timeouts timeouts;
+    private final InFlightLimiter inFlightLimiter;
+    private final ResponseCache responseCache;
+    private final Supplier<HttpTransport> transportFactory;
+    private volatile HttpTransport transport;
+
+    /**
+     * The transport is only created when the first request is sent, once the application under test is running. The
+     * servers under test are only looked up when a request is prepared, for the same reason.
+     */
+    public RequestClient(final Supplier<List<UriUnderTest>> serversUnderTest, final Timeouts timeouts, final InFlightLimiter inFlightLimiter,
+                         final boolean memoizeResponses, final Supplier<HttpTransport> transportFactory) {
+        this.serversUnderTest = serversUnderTest;
+        this.timeouts = timeouts;
+        this.inFlightLimiter = inFlightLimiter;
+        this.responseCache = memoizeResponses ? new ResponseCache() : null;
+        this.transportFactory = transportFactory;
     }
 
-    private static HttpRequestBase createRequest(final UriUnderTest serverUnderTest, final Request request) throws Exception {
-        final HttpRequestBuilder httpRequestBuilder = httpRequestBuilders.get(request.getRequestLine().getMethod());
-        if (httpRequestBuilder == null) {
-            throw new RuntimeException("Unsupported HTTP request method: " + request.getRequestLine().getMethod());
+    /**
+     * Compiles the request of a scenario against every server under test, one per running instance of the application.
+     */
+    public List<PreparedRequest> prepare(final Scenario scenario) {
+        final Timeouts scenarioTimeouts = this.timeouts.overriddenBy(scenario.getTimeout());
+        return this.serversUnderTest.get()
+                .stream()
+                .map(serverUnderTest -> PreparedRequest.compile(serverUnderTest, scenario.getRequest(), scenarioTimeouts))
+                .collect(toList());
+    }
+
+    /**
+     * Sends the request to the next server under test, so every send is spread round-robin across the instances.
+     */
+    public TransportResponse getResponse(final List<PreparedRequest> requests, final boolean memoizable, final ExecutionStatistics statistics,
+                                         final ServiceTimeListener listener) throws Exception {
+        return getResponse(requests.get(Math.floorMod(this.nextServer.getAndIncrement(), requests.size())), memoizable, statistics, listener);
+    }
+
+    /**
+     * Sends the request once an in-flight permit is available. A memoizable request may instead be answered from a
+     * memoized identical GET, repeated executions of a scenario pass {@code false} so they measure real round trips.
+     *
+     * @throws RequestShedException when the in-flight limit is reached and excess requests are shed
+     */
+    public TransportResponse getResponse(final PreparedRequest request, final boolean memoizable, final ExecutionStatistics statistics,
+                                         final ServiceTimeListener listener) throws Exception {
+        if (memoizable && this.responseCache != null && ResponseCache.isCacheable(request)) {
+            return this.responseCache.get(request, statistics, () -> send(request, statistics, listener));
+        }
+        return send(request, statistics, listener);
+    }
+
+    private TransportResponse send(final PreparedRequest request, final ExecutionStatistics statistics,
+                                   final ServiceTimeListener listener) throws Exception {
+        final HttpTransport transport = getTransport();
+        final long queued = System.nanoTime();
+        if (!this.inFlightLimiter.acquire()) {
+            statistics.recordShed();
+            throw new RequestShedException(this.inFlightLimiter.getLimit());
+        }
+        try {
+            final long sent = System.nanoTime();
+            final TransportResponse response = transport.send(request);
+            final long received = System.nanoTime();
+            statistics.record(sent - queued, received - sent);
+            listener.onResponse(sent, received);
+            return response;
+        } finally {
+            this.inFlightLimiter.release();
         }
-        return httpRequestBuilder.buildHttpRequest(serverUnderTest, request);
     }
 
-    private static HttpResponse submitRequest(final HttpRequestBase request) throws IOException {
-        final HttpClient httpClient = HttpClientBuilder.create().build();
-        return httpClient.execute(request);
+    @Override
+    public void close() throws IOException {
+        final HttpTransport transportToClose;
+        synchronized (this) {
+            transportToClose = this.transport;
+            this.transport = null;
+        }
+        if (transportToClose != null) {
+            transportToClose.close();
+        }
+    }
+
+    private HttpTransport getTransport() {
+        HttpTransport result = this.transport;
+        if (result == null) {
+            synchronized (this) {
+                result = this.transport;
+                if (result == null) {
+                    result = this.transportFactory.get();
+                    this.transport = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    public static HttpRequestBase createRequest(final PreparedRequest request) throws Exception {
+        final HttpRequestBuilder httpRequestBuilder = httpRequestBuilders.get(request.getMethod());
+        if (httpRequestBuilder == null) {
+            throw new RuntimeException("Unsupported HTTP request method: " + request.getMethod());
+        }
+        return httpRequestBuilder.buildHttpRequest(request);
     }
 }
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+/**
+ * Thrown instead of sending a request when the in-flight limit is reached and excess requests are shed.
+ */
+public class RequestShedException extends RuntimeException {
+
+    public RequestShedException(final int limit) {
+        super("Request shed, " + limit + " requests already in flight");
+    }
+}
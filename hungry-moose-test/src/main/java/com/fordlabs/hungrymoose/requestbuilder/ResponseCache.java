@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+import com.fordlabs.hungrymoose.model.HttpMethod;
+import com.fordlabs.hungrymoose.transport.TransportResponse;
+import lombok.Value;
+
+import java.net.URI;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Run-scoped responses of idempotent reads, keyed by method, resolved URI and headers. Failures are never cached.
+ */
+class ResponseCache {
+
+    private static final Set<HttpMethod> CACHEABLE_METHODS = EnumSet.of(HttpMethod.GET);
+
+    private final ConcurrentMap<Key, CompletableFuture<TransportResponse>> responses = new ConcurrentHashMap<>();
+
+    interface Fetch {
+        TransportResponse fetch() throws Exception;
+    }
+
+    static boolean isCacheable(final PreparedRequest request) {
+        return CACHEABLE_METHODS.contains(request.getMethod());
+    }
+
+    TransportResponse get(final PreparedRequest request, final ExecutionStatistics statistics, final Fetch fetch) throws Exception {
+        final Key key = new Key(request.getMethod(), request.getUri(), request.getFlattenedHeaders());
+        final CompletableFuture<TransportResponse> fetching = new CompletableFuture<>();
+        final CompletableFuture<TransportResponse> cached = this.responses.putIfAbsent(key, fetching);
+        if (cached != null) {
+            statistics.recordMemoized();
+            return await(cached);
+        }
+
+        try {
+            final TransportResponse response = fetch.fetch();
+            fetching.complete(response);
+            return response;
+        } catch (final Exception | Error e) {
+            this.responses.remove(key, fetching);
+            fetching.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static TransportResponse await(final CompletableFuture<TransportResponse> response) throws Exception {
+        try {
+            return response.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception) throw (Exception) e.getCause();
+            if (e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw e;
+        }
+    }
+
+    @Value
+    private static class Key {
+        HttpMethod method;
+        URI uri;
+        List<String> headers;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+/**
+ * Told about every request sent to the application under test once its response was read. Memoized responses were
+ * never sent and are left out.
+ */
+@FunctionalInterface
+public interface ServiceTimeListener {
+
+    ServiceTimeListener NONE = (sentNanos, receivedNanos) -> { };
+
+    void onResponse(final long sentNanos, final long receivedNanos);
+}
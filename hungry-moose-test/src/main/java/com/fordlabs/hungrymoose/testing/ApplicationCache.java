@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import lombok.Getter;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Applications started for test classes, shared by every test class with the same {@link Key} like Spring's test
+ * context cache. The least recently used one is closed beyond {@code hungrymoose.contextCache.maxSize}.
+ */
+@Slf4j
+final class ApplicationCache {
+
+    public static final String MAX_SIZE_ENVIRONMENT_KEY = "hungrymoose.contextCache.maxSize";
+    public static final int DEFAULT_MAX_SIZE = 32;
+
+    private static final ApplicationCache shared = createShared();
+
+    private final int maxSize;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    ApplicationCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    static ApplicationCache shared() {
+        return shared;
+    }
+
+    /**
+     * The applications still cached at the end of the run are closed by a single shutdown hook, instead of one hook
+     * per application registered by Spring.
+     */
+    private static ApplicationCache createShared() {
+        final ApplicationCache cache = new ApplicationCache(Integer.getInteger(MAX_SIZE_ENVIRONMENT_KEY, DEFAULT_MAX_SIZE));
+        Runtime.getRuntime().addShutdownHook(new Thread(cache::closeAll, "hungry-moose-application-cache"));
+        return cache;
+    }
+
+    /**
+     * Closes every cached application, most recently used first.
+     */
+    void closeAll() {
+        final List<Entry> cached;
+        synchronized (this) {
+            cached = new ArrayList<>(this.entries.values());
+            this.entries.clear();
+        }
+        Collections.reverse(cached);
+        cached.forEach(Entry::close);
+    }
+
+    /**
+     * Returns the entry of the running application for the key, starting it with {@code starter} if needed. Concurrent callers
+     * asking for the same application wait for a single start. Every entry acquired must be {@link #release released}.
+     */
+    Entry acquire(final Key key, final Supplier<RunningApplication> starter) {
+        final Entry entry;
+        final boolean starting;
+        final List<Entry> evicted;
+        synchronized (this) {
+            final Entry cached = this.entries.get(key);
+            starting = cached == null;
+            entry = starting ? new Entry(key) : cached;
+            entry.references++;
+            if (starting) {
+                this.entries.put(key, entry);
+            }
+            evicted = evictLeastRecentlyUsed();
+        }
+        evicted.forEach(Entry::close);
+
+        if (starting) {
+            try {
+                entry.application.complete(starter.get());
+            } catch (final RuntimeException | Error e) {
+                synchronized (this) {
+                    this.entries.remove(key, entry);
+                    entry.references--;
+                }
+                entry.application.completeExceptionally(e);
+                throw e;
+            }
+        } else {
+            log.info("Reusing the running {}", key);
+        }
+        try {
+            entry.awaitApplication();
+            return entry;
+        } catch (final RuntimeException | Error e) {
+            release(entry);
+            throw e;
+        }
+    }
+
+    void release(final Entry entry) {
+        final boolean close;
+        synchronized (this) {
+            entry.references--;
+            close = entry.references == 0 && this.entries.get(entry.key) != entry;
+        }
+        if (close) {
+            entry.close();
+        }
+    }
+
+    synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Removes the least recently used entries beyond the maximum size, returning those that can be closed right away.
+     */
+    private List<Entry> evictLeastRecentlyUsed() {
+        final List<Entry> unused = new ArrayList<>();
+        final Iterator<Map.Entry<Key, Entry>> eldest = this.entries.entrySet().iterator();
+        while (this.entries.size() > this.maxSize && eldest.hasNext()) {
+            final Entry entry = eldest.next().getValue();
+            eldest.remove();
+            if (entry.references == 0) {
+                unused.add(entry);
+            }
+        }
+        return unused;
+    }
+
+    /**
+     * What makes two test classes share an application: the application class, its profiles and the properties
+     * HungryMoose starts it with.
+     */
+    @Value
+    static class Key {
+        Class<?> applicationClass;
+        List<String> activeProfiles;
+        String transport;
+        String transferProtocol;
+        String host;
+        /**
+         * Port requested with {@code target.port}, {@code 0} when any free port will do.
+         */
+        int requestedPort;
+        int instances;
+
+        @Override
+        public String toString() {
+            return String.format("%s application (profiles %s, %d instance(s), %s transport)", this.applicationClass.getSimpleName(), this.activeProfiles, this.instances, this.transport);
+        }
+    }
+
+    /**
+     * Every instance of a started application, with the URI it is listening on.
+     */
+    @Value
+    static class RunningApplication {
+        List<UriUnderTest> uris;
+        List<ConfigurableApplicationContext> contexts;
+
+        void close() {
+            this.contexts.forEach(ConfigurableApplicationContext::close);
+        }
+    }
+
+    static final class Entry {
+        @Getter
+        private final Key key;
+        private final CompletableFuture<RunningApplication> application = new CompletableFuture<>();
+        private int references;
+
+        private Entry(final Key key) {
+            this.key = key;
+        }
+
+        /**
+         * The application once it is running, {@code null} while it is starting or when it failed to start.
+         */
+        RunningApplication getApplication() {
+            return this.application.isDone() && !this.application.isCompletedExceptionally() ? this.application.join() : null;
+        }
+
+        private void awaitApplication() {
+            try {
+                this.application.join();
+            } catch (final CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        private void close() {
+            final RunningApplication running = getApplication();
+            if (running != null) {
+                log.info("Closing the {}", this.key);
+                running.close();
+            }
+        }
+    }
+}
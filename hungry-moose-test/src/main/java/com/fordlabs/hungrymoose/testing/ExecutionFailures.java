@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.testing.ExecutionOutcomes.Failure;
+
+import java.util.List;
+import java.util.Locale;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Reported when several executions of a scenario failed, counted by kind of failure.
+ */
+public class ExecutionFailures extends AssertionError {
+
+    ExecutionFailures(final long executions, final List<Failure> failures) {
+        super(describe(executions, failures), failures.get(0).getFirst());
+        failures.stream().skip(1).forEach(failure -> addSuppressed(failure.getFirst()));
+    }
+
+    private static String describe(final long executions, final List<Failure> failures) {
+        final long failed = failures.stream().mapToLong(Failure::getCount).sum();
+        return String.format(Locale.ROOT, "%,d of %,d executions failed: ", failed, executions) + failures.stream()
+                .map(failure -> String.format(Locale.ROOT, "%,d x %s", failure.getCount(), summarize(failure.getFirst())))
+                .collect(joining(", "));
+    }
+
+    private static String summarize(final Throwable throwable) {
+        final String message = throwable.getMessage();
+        if (message == null || message.trim().isEmpty()) {
+            return throwable.getClass().getSimpleName();
+        }
+        return message.trim().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.requestbuilder.ServiceTimeListener;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.IntCountsHistogram;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latencies of the concurrent executions of a scenario. Each execution records into a histogram of its own, taken from
+ * a pool shared by every scenario, and adds it to the scenario's once it is over before handing it back.
+ */
+final class ExecutionLatencies {
+
+    static final long LOWEST_DISCERNIBLE_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    /**
+     * Well above any latency budget, longer latencies are recorded as this value.
+     */
+    static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    static final int SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * Histograms kept between executions, more concurrent executions than this allocate their own. Virtual threads
+     * run every execution on a new thread, so histograms are pooled rather than kept per thread.
+     */
+    static final int POOLED_HISTOGRAMS = 64;
+
+    /**
+     * Counts are ints, which halves the footprint of every histogram, no bucket of a single execution gets near their limit.
+     */
+    private static final BlockingQueue<IntCountsHistogram> histogramPool = new ArrayBlockingQueue<>(POOLED_HISTOGRAMS);
+
+    private final Histogram merged = newHistogram();
+
+    /**
+     * Starts recording the execution running on the current thread.
+     */
+    Buffer newBuffer() {
+        final IntCountsHistogram pooled = histogramPool.poll();
+        return new Buffer(pooled != null ? pooled : new IntCountsHistogram(LOWEST_DISCERNIBLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS));
+    }
+
+    /**
+     * The latencies of every execution that is over.
+     */
+    synchronized Histogram merge() {
+        return this.merged.copy();
+    }
+
+    private synchronized void add(final AbstractHistogram histogram) {
+        this.merged.add(histogram);
+    }
+
+    static Histogram newHistogram() {
+        return new Histogram(LOWEST_DISCERNIBLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    }
+
+    static String describe(final AbstractHistogram histogram) {
+        if (histogram.getTotalCount() == 0) {
+            return "no latencies recorded";
+        }
+        return String.format(Locale.ROOT, "latency p50 %.2f ms p90 %.2f ms p99 %.2f ms p99.9 %.2f ms max %.2f ms",
+                toMillis(histogram.getValueAtPercentile(50)), toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)), toMillis(histogram.getValueAtPercentile(99.9)),
+                toMillis(histogram.getMaxValue()));
+    }
+
+    private static double toMillis(final long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Latencies of a single execution, only ever touched by the thread running it until it is closed.
+     */
+    final class Buffer implements ServiceTimeListener, AutoCloseable {
+        private final IntCountsHistogram histogram;
+
+        private Buffer(final IntCountsHistogram histogram) {
+            this.histogram = histogram;
+        }
+
+        void record(final long nanos) {
+            this.histogram.recordValue(Math.min(Math.max(nanos, 0), HIGHEST_TRACKABLE_NANOS));
+        }
+
+        @Override
+        public void onResponse(final long sentNanos, final long receivedNanos) {
+            record(receivedNanos - sentNanos);
+        }
+
+        @Override
+        public void close() {
+            add(this.histogram);
+            this.histogram.reset();
+            histogramPool.offer(this.histogram);
+        }
+    }
+}
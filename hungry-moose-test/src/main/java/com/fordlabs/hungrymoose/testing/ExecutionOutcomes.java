@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Outcomes of the concurrent executions of a scenario, each recorded into its own {@link Buffer} without locking.
+ */
+final class ExecutionOutcomes {
+
+    private final List<Buffer> buffers = new ArrayList<>();
+
+    /**
+     * Creates the buffer of one execution, to be called before the execution starts.
+     */
+    Buffer newBuffer() {
+        final Buffer buffer = new Buffer();
+        this.buffers.add(buffer);
+        return buffer;
+    }
+
+    long getSucceeded() {
+        return this.buffers.stream().mapToLong(buffer -> buffer.succeeded).sum();
+    }
+
+    long getFailed() {
+        return this.buffers.stream().mapToLong(buffer -> buffer.failures.values().stream().mapToLong(Failure::getCount).sum()).sum();
+    }
+
+    /**
+     * The failure to report for the scenario, {@code null} when no execution failed. A single failure is reported as
+     * is, several are summarized by an {@link ExecutionFailures}.
+     */
+    Throwable toFailure() {
+        final Map<Shape, Failure> merged = new LinkedHashMap<>();
+        for (final Buffer buffer : this.buffers) {
+            buffer.failures.forEach((shape, failure) -> merged.merge(shape, failure,
+                    (first, other) -> new Failure(first.getFirst(), first.getCount() + other.getCount())));
+        }
+        if (merged.isEmpty()) {
+            return null;
+        }
+        final List<Failure> failures = merged.values().stream()
+                .sorted(Comparator.comparingLong(Failure::getCount).reversed())
+                .collect(toList());
+        if (failures.size() == 1 && failures.get(0).getCount() == 1) {
+            return failures.get(0).getFirst();
+        }
+        return new ExecutionFailures(getSucceeded() + getFailed(), failures);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d succeeded, %d failed", getSucceeded(), getFailed());
+    }
+
+    /**
+     * Outcomes of a single execution, only ever touched by the thread running it until the execution is over.
+     */
+    static final class Buffer {
+        private long succeeded;
+        private final Map<Shape, Failure> failures = new LinkedHashMap<>();
+
+        void recordSuccess() {
+            this.succeeded++;
+        }
+
+        void recordFailure(final Throwable throwable) {
+            this.failures.merge(Shape.of(throwable), new Failure(throwable, 1),
+                    (first, other) -> new Failure(first.getFirst(), first.getCount() + 1));
+        }
+    }
+
+    @Value
+    static class Failure {
+        Throwable first;
+        long count;
+    }
+
+    @Value
+    private static class Shape {
+        Class<?> type;
+        String message;
+        List<StackTraceElement> stack;
+
+        static Shape of(final Throwable throwable) {
+            return new Shape(throwable.getClass(), throwable.getMessage(), Arrays.asList(throwable.getStackTrace()));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the executions of every scenario of the suite, on virtual threads with {@code hungrymoose.virtualThreads}.
+ */
+@Slf4j
+final class ExecutionPool {
+
+    public static final String VIRTUAL_THREADS_ENVIRONMENT_KEY = "hungrymoose.virtualThreads";
+
+    private static volatile ExecutionPool shared;
+
+    private final ExecutorService executor;
+    private final boolean virtualThreads;
+
+    ExecutionPool(final boolean virtualThreads) {
+        final Optional<ExecutorService> virtualThreadExecutor = virtualThreads ? newVirtualThreadExecutor() : Optional.empty();
+        this.executor = virtualThreadExecutor.orElseGet(ExecutionPool::newPlatformThreadExecutor);
+        this.virtualThreads = virtualThreadExecutor.isPresent();
+    }
+
+    static ExecutionPool shared() {
+        if (shared == null) {
+            synchronized (ExecutionPool.class) {
+                if (shared == null) {
+                    shared = new ExecutionPool(Boolean.getBoolean(VIRTUAL_THREADS_ENVIRONMENT_KEY));
+                }
+            }
+        }
+        return shared;
+    }
+
+    boolean usesVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    Execution submit(final String name, final Runnable task) {
+        final Execution execution = new Execution(name, task);
+        execution.future = this.executor.submit(execution::run);
+        return execution;
+    }
+
+    private static ExecutorService newPlatformThreadExecutor() {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hungry-moose-execution-");
+        // A hung execution must not keep the JVM alive once the suite is over
+        threadFactory.setDaemon(true);
+        return Executors.newCachedThreadPool(threadFactory);
+    }
+
+    private static Optional<ExecutorService> newVirtualThreadExecutor() {
+        try {
+            // Looked up reflectively, the project itself is built for JDK 11
+            return Optional.of((ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null));
+        } catch (final ReflectiveOperationException e) {
+            log.warn("Virtual threads need JDK 21 or later, running executions on platform threads on {}", System.getProperty("java.version"));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A single execution of a scenario, which can be awaited and interrupted like the thread it runs on.
+     */
+    static final class Execution {
+        private final String name;
+        private final Runnable task;
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile Thread runner;
+        private volatile Future<?> future;
+
+        private Execution(final String name, final Runnable task) {
+            this.name = name;
+            this.task = task;
+        }
+
+        private void run() {
+            final Thread thread = Thread.currentThread();
+            final String poolName = thread.getName();
+            thread.setName(this.name);
+            this.runner = thread;
+            try {
+                this.task.run();
+            } finally {
+                this.runner = null;
+                thread.setName(poolName);
+                this.finished.countDown();
+            }
+        }
+
+        void join() throws InterruptedException {
+            this.finished.await();
+        }
+
+        boolean join(final long timeoutNanos) throws InterruptedException {
+            return this.finished.await(timeoutNanos, TimeUnit.NANOSECONDS);
+        }
+
+        boolean isAlive() {
+            return this.finished.getCount() > 0;
+        }
+
+        StackTraceElement[] getStackTrace() {
+            final Thread thread = this.runner;
+            return thread == null ? new StackTraceElement[0] : thread.getStackTrace();
+        }
+
+        void interrupt() {
+            this.future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.testing.ExecutionPool.Execution;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Bounds how long the executions of a scenario may run. Executions still running once the scenario's total timeout
+ * has passed are interrupted, so a server that never answers fails that scenario instead of hanging the suite.
+ */
+class ExecutionWatchdog {
+
+    public static final long INTERRUPT_GRACE_MILLIS = 1000;
+
+    /**
+     * Waits for every execution and returns the failure to report for the scenario, or {@code null} when all of
+     * them finished in time. The failure carries the stack of a stuck execution to show where it was waiting.
+     */
+    static TimeoutException awaitExecutions(final String scenarioName, final List<Execution> executions, final long totalTimeoutMillis) throws InterruptedException {
+        if (totalTimeoutMillis <= 0) {
+            for (final Execution execution : executions) {
+                execution.join();
+            }
+            return null;
+        }
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(totalTimeoutMillis);
+        for (final Execution execution : executions) {
+            execution.join(deadline - System.nanoTime());
+        }
+        final List<Execution> hungExecutions = executions.stream().filter(Execution::isAlive).collect(toList());
+        if (hungExecutions.isEmpty()) {
+            return null;
+        }
+
+        final TimeoutException timeout = new TimeoutException(String.format("Scenario '%s' did not finish within %d ms, %d of %d executions were interrupted",
+                scenarioName, totalTimeoutMillis, hungExecutions.size(), executions.size()));
+        timeout.setStackTrace(hungExecutions.get(0).getStackTrace());
+        hungExecutions.forEach(Execution::interrupt);
+
+        // Blocking socket I/O ignores interrupts, those executions are left to their read timeout
+        final long graceDeadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(INTERRUPT_GRACE_MILLIS);
+        for (final Execution execution : hungExecutions) {
+            execution.join(graceDeadline - System.nanoTime());
+        }
+        return timeout;
+    }
+}
@@ -23,14 +23,25 @@ import org.junit.runner.Description;
 import org.junit.runner.Runner;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.ReflectionUtils;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.stream.Collectors.toList;
 
 public class HungryMooseJUnit4TestRunner extends Runner {
     private final HungryMooseTestRunner testRunner;
@@ -81,48 +92,82 @@ public class HungryMooseJUnit4TestRunner extends Runner {
 
     @Override
     public void run(final RunNotifier runNotifier) {
-        this.testRunner.getTestContext().runApplication();
-        runClassLevelMethod(runNotifier, this.beforeClass, "BeforeClass");
-        runTestCases(runNotifier);
-        runClassLevelMethod(runNotifier, this.afterClass, "AfterClass");
+        try {
+            this.testRunner.getTestContext().runApplication();
+            runClassLevelMethod(runNotifier, this.beforeClass, "BeforeClass");
+            runTestCases(runNotifier);
+            runClassLevelMethod(runNotifier, this.afterClass, "AfterClass");
+        } finally {
+            closeTestRunner();
+        }
+    }
+
+    private void closeTestRunner() {
+        try {
+            this.testRunner.close();
+        } catch (final IOException ignored) {
+            // Connections are released on a best effort basis once the suite has finished
+        }
     }
 
     private void runTestCases(RunNotifier runNotifier) {
-        for (final Entry<Description, TestCase> entry : this.testCases.entrySet()) {
-            final Description testDescription = entry.getKey();
-            final TestCase testCase = entry.getValue();
-            runNotifier.fireTestStarted(testDescription);
-            try {
-                final Throwable[] hasThrowable = new Throwable[1];
-                final Thread[] threads = new Thread[this.testRunner.getTestContext().getThreadCount()];
-                for (int i = 0; i < this.testRunner.getTestContext().getThreadCount(); i++) {
-                    final Thread thread = new Thread(() -> {
-                        try {
-                            testCase.runTest();
-                        } catch (final Throwable e) {
-                            synchronized (hasThrowable) {
-                                hasThrowable[0] = e;
-                            }
-                        }
-                    });
-                    threads[i] = thread;
-                    thread.start();
-                }
-
-                for (final Thread thread : threads) {
-                    thread.join();
-                }
-                if (hasThrowable[0] != null) {
-                    runNotifier.fireTestFailure(new Failure(testDescription, hasThrowable[0]));
-                }
-
-            } catch (final Throwable catchAllThrowablesOtherwiseTheTestRunnerMightFailSilently) {
-                runNotifier.fireTestFailure(new Failure(testDescription, catchAllThrowablesOtherwiseTheTestRunnerMightFailSilently));
+        final int parallelism = Math.min(this.testRunner.getTestContext().getParallelism(), this.testCases.size());
+        if (parallelism <= 1) {
+            for (final Entry<Description, TestCase> entry : this.testCases.entrySet()) {
+                runTestCase(runNotifier, entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("hungry-moose-scenario-");
+        threadFactory.setDaemon(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+        try {
+            // Each scenario is only submitted once the scenarios it depends on finished, so no worker ever waits
+            final ScenarioSchedule schedule = ScenarioSchedule.of(this.testRunner.getTestCases().stream().map(TestCase::getScenario).collect(toList()));
+            final List<Entry<Description, TestCase>> entries = new ArrayList<>(this.testCases.entrySet());
+            final List<CompletableFuture<Void>> scenarios = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                final Entry<Description, TestCase> entry = entries.get(i);
+                final CompletableFuture<?>[] prerequisites = schedule.getPrerequisites(i).stream().map(scenarios::get).toArray(CompletableFuture[]::new);
+                scenarios.add(CompletableFuture.allOf(prerequisites).thenRunAsync(() -> runTestCase(runNotifier, entry.getKey(), entry.getValue()), executor));
             }
+            CompletableFuture.allOf(scenarios.toArray(new CompletableFuture<?>[0])).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            // Only notifier exceptions get here, such as the one stopping the run once a stop was requested
+            final Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs every execution of a scenario. With {@link Parallel}, several scenarios run this from worker threads at
+     * once, so notifier events are serialized to keep each listener from seeing interleaved calls.
+     */
+    private void runTestCase(final RunNotifier runNotifier, final Description testDescription, final TestCase testCase) {
+        synchronized (runNotifier) {
+            runNotifier.fireTestStarted(testDescription);
+        }
+        try {
+            this.testRunner.runTestCase(testCase);
+        } catch (final Throwable catchAllThrowablesOtherwiseTheTestRunnerMightFailSilently) {
+            fireTestFailure(runNotifier, new Failure(testDescription, catchAllThrowablesOtherwiseTheTestRunnerMightFailSilently));
+        }
+        synchronized (runNotifier) {
             runNotifier.fireTestFinished(testDescription);
         }
     }
 
+    private static void fireTestFailure(final RunNotifier runNotifier, final Failure failure) {
+        synchronized (runNotifier) {
+            runNotifier.fireTestFailure(failure);
+        }
+    }
+
     private void runClassLevelMethod(RunNotifier runNotifier, Method methodToRun, String methodName) {
         try {
             if (methodToRun != null) {
@@ -19,33 +19,235 @@
 
 package com.fordlabs.hungrymoose.testing;
 
+import com.fordlabs.hungrymoose.model.LoadStage;
+import com.fordlabs.hungrymoose.model.Scenario;
+import com.fordlabs.hungrymoose.requestbuilder.ExecutionStatistics;
+import com.fordlabs.hungrymoose.requestbuilder.RequestShedException;
+import com.fordlabs.hungrymoose.requestbuilder.ServiceTimeListener;
+import com.fordlabs.hungrymoose.testing.ExecutionPool.Execution;
+import com.fordlabs.hungrymoose.transport.Timeouts;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static java.util.stream.Collectors.toList;
 
+@Slf4j
 @Getter
 @AllArgsConstructor
-public class HungryMooseTestRunner {
+public class HungryMooseTestRunner implements Closeable {
 
     private final TestContext testContext;
     private final List<TestCase> testCases;
+    /**
+     * Latencies of every scenario of the suite, merged as each one finishes.
+     */
+    private final Histogram suiteLatencies = ExecutionLatencies.newHistogram();
 
     public static HungryMooseTestRunner from(final Class<?> testClass) {
         TestContext context = TestContextFactory.build(testClass);
-        return new HungryMooseTestRunner(context, setupTestCases(testClass, context));
+        final List<Scenario> scenarios = ScenarioParser.parse(testClass, context.getSpecFileLocation());
+        return new HungryMooseTestRunner(context, setupTestCases(testClass, context, Shard.current().select(context.getSpecFileLocation(), scenarios)));
+    }
+
+    /**
+     * For callers that already parsed the spec file of the test class and kept the scenarios of this JVM's {@link Shard}.
+     */
+    public static HungryMooseTestRunner from(final Class<?> testClass, final List<Scenario> scenarios) {
+        TestContext context = TestContextFactory.build(testClass);
+        return new HungryMooseTestRunner(context, setupTestCases(testClass, context, scenarios));
+    }
+
+    public TestCase getTestCase(final Scenario scenario) {
+        return this.testCases.stream()
+                .filter(testCase -> testCase.getScenario() == scenario)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No test case for scenario '" + scenario.getName() + "'"));
     }
 
     public void runApplication() {
         this.getTestContext().runApplication();
     }
 
-    private static List<TestCase> setupTestCases(final Class<?> testClass, final TestContext context) {
-        return ScenarioParser.parse(testClass, context.getSpecFileLocation())
+    /**
+     * Runs the executions of the scenario on the {@link ExecutionPool}, repeated under {@link Load}, and checks them
+     * against its latency budget.
+     *
+     * @throws TimeoutException when executions were still running after the total timeout
+     * @throws Throwable the failure of the single failed execution, or an {@link ExecutionFailures} summarizing several
+     * @throws AssertionError when every execution passed but their latencies are over the scenario's latency budget
+     */
+    public void runTestCase(final TestCase testCase) throws Throwable {
+        final ExecutionOutcomes outcomes = new ExecutionOutcomes();
+        final LoadProfile load = this.testContext.getLoad();
+        // Opened before the scenario starts, so its interval never begins before the log does
+        final LatencyLog latencyLog = LatencyLog.shared();
+        final long start = System.nanoTime();
+        final long startMillis = System.currentTimeMillis();
+        Histogram latencies = null;
+        try {
+            final Timeouts timeouts = testCase.getTimeouts();
+            if (!load.getStages().isEmpty()) {
+                latencies = runLoadStages(testCase, outcomes, timeouts);
+            } else if (load.isEnabled()) {
+                final long durationNanos = TimeUnit.MILLISECONDS.toNanos(load.getDurationMillis());
+                latencies = runExecutions(testCase, outcomes, testCase.getStatistics(), this.testContext.getConcurrency(),
+                        new Pacer(start, durationNanos, load.getTargetRps()), getTotalMillis(timeouts, load.getDurationMillis()));
+            } else {
+                latencies = runExecutions(testCase, outcomes, testCase.getStatistics(), this.testContext.getConcurrency(), null, timeouts.getTotalMillis());
+            }
+            synchronized (this.suiteLatencies) {
+                this.suiteLatencies.add(latencies);
+            }
+            latencyLog.write(testCase.getTestName(), startMillis, System.currentTimeMillis(), latencies);
+            final Throwable failure = outcomes.toFailure();
+            if (failure != null) {
+                throw failure;
+            }
+            final AssertionError overBudget = LatencyBudget.of(testCase.getScenario()).toFailure(testCase.getTestName(), latencies);
+            if (overBudget != null) {
+                throw overBudget;
+            }
+        } finally {
+            final long elapsedNanos = System.nanoTime() - start;
+            // Hung executions may still be recording, their outcomes and latencies are only read once all of them finished
+            log.info("Scenario '{}': {}{}", testCase.getTestName(), testCase.getStatistics(),
+                    latencies != null ? ", " + outcomes + ", " + ExecutionLatencies.describe(latencies) : "");
+            if (load.isEnabled() && load.getStages().isEmpty()) {
+                log.info("Scenario '{}' under load of {} with {} concurrent executions: {}", testCase.getTestName(), load,
+                        this.testContext.getConcurrency(), describeThroughput(testCase.getStatistics(), elapsedNanos, latencies));
+            }
+            Shard.recordDuration(this.testContext.getSpecFileLocation(), testCase.getScenario(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+
+    /**
+     * Runs the load stages one after the other, a stage that times out ends the run.
+     */
+    private Histogram runLoadStages(final TestCase testCase, final ExecutionOutcomes outcomes, final Timeouts timeouts) throws TimeoutException, InterruptedException {
+        final List<LoadStage> stages = this.testContext.getLoad().getStages();
+        final Histogram latencies = ExecutionLatencies.newHistogram();
+        for (int i = 0; i < stages.size(); i++) {
+            final LoadStage stage = stages.get(i);
+            final ExecutionStatistics statistics = new ExecutionStatistics();
+            final int concurrency = stage.getConcurrency() != null ? stage.getConcurrency() : this.testContext.getConcurrency();
+            final double targetRps = stage.getTargetRps() != null ? stage.getTargetRps() : 0;
+            final double fromRps = stage.getFromRps() != null ? stage.getFromRps() : targetRps;
+            final long start = System.nanoTime();
+            Histogram stageLatencies = null;
+            try {
+                stageLatencies = runExecutions(testCase, outcomes, statistics, concurrency,
+                        new Pacer(start, TimeUnit.MILLISECONDS.toNanos(stage.getDuration()), fromRps, targetRps), getTotalMillis(timeouts, stage.getDuration()));
+                latencies.add(stageLatencies);
+            } finally {
+                testCase.getStatistics().add(statistics);
+                log.info("Scenario '{}' in load stage {} of {} '{}' ({} ms at {}) with {} concurrent executions: {}", testCase.getTestName(), i + 1, stages.size(),
+                        stage.getName() != null ? stage.getName() : "", stage.getDuration(), describeRate(fromRps, targetRps), concurrency,
+                        describeThroughput(statistics, System.nanoTime() - start, stageLatencies));
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Each execution runs the scenario once without a pacer, or for every slot it hands out.
+     *
+     * @return the merged latencies of the executions
+     */
+    private Histogram runExecutions(final TestCase testCase, final ExecutionOutcomes outcomes, final ExecutionStatistics statistics,
+                               final int concurrency, final Pacer pacer, final long totalMillis) throws TimeoutException, InterruptedException {
+        final boolean openLoop = this.testContext.getLoad().isOpenLoop();
+        final List<Execution> executions = new ArrayList<>(concurrency);
+        final ExecutionLatencies latencies = new ExecutionLatencies();
+        for (int i = 0; i < concurrency; i++) {
+            final ExecutionOutcomes.Buffer buffer = outcomes.newBuffer();
+            executions.add(ExecutionPool.shared().submit("hungry-moose-" + testCase.getTestName() + "-" + i, () -> {
+                try (ExecutionLatencies.Buffer latencyBuffer = latencies.newBuffer()) {
+                    if (pacer == null) {
+                        runOnce(testCase, statistics, buffer, latencyBuffer);
+                        return;
+                    }
+                    if (openLoop) {
+                        long arrival;
+                        while ((arrival = pacer.awaitNextArrival()) != Pacer.FINISHED) {
+                            final long intended = arrival;
+                            runOnce(testCase, statistics, buffer, (sent, received) -> latencyBuffer.record(received - intended));
+                            statistics.recordResponseTime(System.nanoTime() - arrival);
+                        }
+                        return;
+                    }
+                    while (pacer.awaitNextSlot()) {
+                        runOnce(testCase, statistics, buffer, latencyBuffer);
+                    }
+                }
+            }));
+        }
+
+        final TimeoutException timeout = ExecutionWatchdog.awaitExecutions(testCase.getTestName(), executions, totalMillis);
+        if (timeout != null) {
+            throw timeout;
+        }
+        return latencies.merge();
+    }
+
+    private static long getTotalMillis(final Timeouts timeouts, final long loadDurationMillis) {
+        return timeouts.getTotalMillis() > 0 ? loadDurationMillis + timeouts.getTotalMillis() : timeouts.getTotalMillis();
+    }
+
+    /**
+     * The latency of the request is only recorded when it was actually sent, validation and in-flight waits are left
+     * out. Under an open loop load it counts from when the request was meant to be sent instead.
+     */
+    private static void runOnce(final TestCase testCase, final ExecutionStatistics statistics, final ExecutionOutcomes.Buffer buffer,
+                                final ServiceTimeListener latencies) {
+        try {
+            testCase.runTest(statistics, latencies);
+            buffer.recordSuccess();
+        } catch (final RequestShedException e) {
+            // Shedding is how the suite asked to handle overload, it is counted in the statistics
+        } catch (final Throwable e) {
+            buffer.recordFailure(e);
+        }
+    }
+
+    private static String describeRate(final double fromRps, final double targetRps) {
+        if (targetRps <= 0 && fromRps <= 0) {
+            return "full speed";
+        }
+        return fromRps == targetRps ? String.format("%.1f/s", targetRps) : String.format("%.1f/s to %.1f/s", fromRps, targetRps);
+    }
+
+    /**
+     * Latencies are left out when the executions timed out, they are only merged once all of them finished.
+     */
+    private static String describeThroughput(final ExecutionStatistics statistics, final long elapsedNanos, final Histogram latencies) {
+        final double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        return String.format("%d requests in %.1f s, %.1f requests/s", statistics.getExecutions(), seconds, statistics.getExecutions() / seconds)
+                + (latencies != null ? ", " + ExecutionLatencies.describe(latencies) : "");
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.suiteLatencies) {
+            if (this.suiteLatencies.getTotalCount() > 0) {
+                log.info("Spec '{}': {}", this.testContext.getSpecFileLocation(), ExecutionLatencies.describe(this.suiteLatencies));
+            }
+        }
+        this.getTestContext().close();
+    }
+
+    private static List<TestCase> setupTestCases(final Class<?> testClass, final TestContext context, final List<Scenario> scenarios) {
+        return scenarios
                 .stream()
-                .map(scenario -> new TestCase(scenario, context.getApplicationUri(), testClass))
+                .map(scenario -> new TestCase(scenario, context.getRequestClient(), testClass))
                 .collect(toList());
     }
 }
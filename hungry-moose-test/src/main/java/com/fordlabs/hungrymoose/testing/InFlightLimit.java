@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caps how many requests may be outstanding against the application at once, across every execution of every
+ * scenario of the suite.
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface InFlightLimit {
+
+    enum Overflow {
+        /**
+         * Executions wait for a request to complete before sending theirs.
+         */
+        WAIT,
+        /**
+         * Executions that find the limit reached are dropped and counted as shed, they don't fail the scenario.
+         */
+        SHED
+    }
+
+    int value();
+
+    Overflow overflow() default Overflow.WAIT;
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.model.Latency;
+import com.fordlabs.hungrymoose.model.Scenario;
+import org.HdrHistogram.AbstractHistogram;
+import org.apache.commons.lang3.Validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The latency a scenario promises in its spec file, a maximum and budgets by percentile, checked against the latencies
+ * of all its executions. A latency only breaks its budget when it is over it beyond the precision of the histogram.
+ */
+final class LatencyBudget {
+
+    private static final Pattern PERCENTILE = Pattern.compile("p(\\d+(?:\\.\\d+)?)");
+
+    private final Latency maxLatency;
+    private final Map<Double, Latency> percentiles;
+
+    private LatencyBudget(final Latency maxLatency, final Map<Double, Latency> percentiles) {
+        this.maxLatency = maxLatency;
+        this.percentiles = percentiles;
+    }
+
+    static LatencyBudget of(final Scenario scenario) {
+        final Map<Double, Latency> percentiles = new TreeMap<>();
+        if (scenario.getLatency() != null) {
+            scenario.getLatency().forEach((key, latency) -> {
+                final Matcher matcher = PERCENTILE.matcher(key);
+                Validate.isTrue(matcher.matches(), "Latency percentiles are written like p99 or p99.9, not '%s'", key);
+                final double percentile = Double.parseDouble(matcher.group(1));
+                Validate.isTrue(percentile > 0 && percentile <= 100, "Latency percentiles are between p0 and p100, not '%s'", key);
+                percentiles.put(percentile, checkRange(key, latency));
+            });
+        }
+        return new LatencyBudget(scenario.getMaxLatency() == null ? null : checkRange("maxLatency", scenario.getMaxLatency()), percentiles);
+    }
+
+    /**
+     * Latencies beyond the range of the histogram are recorded as its highest value, a budget above it would never break.
+     */
+    private static Latency checkRange(final String name, final Latency latency) {
+        Validate.isTrue(latency.getNanos() > 0 && latency.getNanos() < ExecutionLatencies.HIGHEST_TRACKABLE_NANOS,
+                "Latency budgets are between 0 and %d ms, %s is %s", TimeUnit.NANOSECONDS.toMillis(ExecutionLatencies.HIGHEST_TRACKABLE_NANOS), name, latency);
+        return latency;
+    }
+
+    boolean isEmpty() {
+        return this.maxLatency == null && this.percentiles.isEmpty();
+    }
+
+    /**
+     * The failure to report for the scenario, {@code null} when its latencies are within budget or none were recorded.
+     */
+    AssertionError toFailure(final String scenarioName, final AbstractHistogram latencies) {
+        if (isEmpty() || latencies.getTotalCount() == 0) {
+            return null;
+        }
+        final List<String> breaches = new ArrayList<>();
+        this.percentiles.forEach((percentile, budget) ->
+                check(breaches, "p" + format(percentile), latencies, latencies.getValueAtPercentile(percentile), budget));
+        if (this.maxLatency != null) {
+            check(breaches, "max", latencies, latencies.getMaxValue(), this.maxLatency);
+        }
+        if (breaches.isEmpty()) {
+            return null;
+        }
+        return new AssertionError(String.format(Locale.ROOT, "Scenario '%s' is over its latency budget in %,d executions: %s",
+                scenarioName, latencies.getTotalCount(), String.join(", ", breaches)));
+    }
+
+    private static void check(final List<String> breaches, final String name, final AbstractHistogram latencies, final long nanos, final Latency budget) {
+        if (latencies.lowestEquivalentValue(nanos) > budget.getNanos()) {
+            breaches.add(String.format(Locale.ROOT, "%s %.2f ms over %s", name, nanos / (double) TimeUnit.MILLISECONDS.toNanos(1), budget));
+        }
+    }
+
+    private static String format(final double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+
+/**
+ * Writes the latencies of every scenario to the HdrHistogram log named by {@code hungrymoose.latencyLog}, if any.
+ */
+@Slf4j
+final class LatencyLog {
+
+    public static final String LATENCY_LOG_ENVIRONMENT_KEY = "hungrymoose.latencyLog";
+
+    private static volatile LatencyLog shared;
+
+    private final HistogramLogWriter writer;
+
+    private LatencyLog(final HistogramLogWriter writer) {
+        this.writer = writer;
+    }
+
+    static LatencyLog shared() {
+        if (shared == null) {
+            synchronized (LatencyLog.class) {
+                if (shared == null) {
+                    final String fileName = System.getProperty(LATENCY_LOG_ENVIRONMENT_KEY);
+                    if (fileName == null) {
+                        shared = new LatencyLog(null);
+                    } else {
+                        shared = open(new File(fileName));
+                        Runtime.getRuntime().addShutdownHook(new Thread(shared::close, "hungry-moose-latency-log"));
+                    }
+                }
+            }
+        }
+        return shared;
+    }
+
+    static LatencyLog open(final File file) {
+        try {
+            final HistogramLogWriter writer = new HistogramLogWriter(new PrintStream(new FileOutputStream(file), true));
+            final long now = System.currentTimeMillis();
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(now);
+            writer.setBaseTime(now);
+            writer.outputLegend();
+            log.info("Writing scenario latencies to {}", file.getAbsolutePath());
+            return new LatencyLog(writer);
+        } catch (final FileNotFoundException e) {
+            throw new IllegalArgumentException("Unable to write the latency log to " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Appends the latencies of one scenario as an interval tagged with its name, in which the separators of the log
+     * format are replaced.
+     */
+    synchronized void write(final String scenarioName, final long startMillis, final long endMillis, final Histogram latencies) {
+        if (this.writer == null) {
+            return;
+        }
+        final Histogram interval = latencies.copy();
+        interval.setTag(scenarioName.replaceAll("[,\\s]", "_"));
+        interval.setStartTimeStamp(startMillis);
+        interval.setEndTimeStamp(endMillis);
+        this.writer.outputIntervalHistogram(interval);
+    }
+
+    synchronized void close() {
+        if (this.writer != null) {
+            this.writer.close();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs each scenario as a load test: its executions keep repeating it until the duration is over, paced to the
+ * target rate, and the scenario reports its throughput and latency. Failed executions still fail the scenario.
+ * Needs a {@link #duration()}, or {@link #stages()} to run the load stages of the spec file instead.
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Load {
+
+    /**
+     * How long each scenario is repeated, in milliseconds.
+     */
+    long duration() default 0;
+
+    /**
+     * Requests per second across all executions of a scenario, {@code 0} sends them as fast as responses come back.
+     */
+    double targetRps() default 0;
+
+    /**
+     * Number of concurrent executions repeating the scenario, {@code 0} uses {@link ThreadCount}.
+     */
+    int concurrency() default 0;
+
+    /**
+     * Sends requests on a fixed arrival schedule at {@link #targetRps()}, whether or not earlier responses came back,
+     * and times each one from when it was meant to be sent. Requires a {@link #targetRps()}.
+     */
+    boolean openLoop() default false;
+
+    /**
+     * Runs the load stages declared in the spec file, which replace the duration, target rate and concurrency.
+     */
+    boolean stages() default false;
+}
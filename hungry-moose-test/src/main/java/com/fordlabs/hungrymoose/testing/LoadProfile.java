@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.model.LoadStage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * How scenarios are repeated under {@link Load}, or not at all when {@link #getDurationMillis()} is {@code 0}. Stages
+ * declared in the spec file replace the duration, target rate and concurrency of {@link Load}.
+ */
+@Getter
+@AllArgsConstructor
+public class LoadProfile {
+    private final long durationMillis;
+    private final double targetRps;
+    private final int concurrency;
+    private final boolean openLoop;
+    private final List<LoadStage> stages;
+
+    public static LoadProfile none() {
+        return new LoadProfile(0, 0, 0, false, Collections.emptyList());
+    }
+
+    public boolean isEnabled() {
+        return this.durationMillis > 0 || !this.stages.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d ms at %s%s", this.durationMillis, this.targetRps > 0 ? String.format("%.1f/s", this.targetRps) : "full speed",
+                this.openLoop ? " open loop" : "");
+    }
+}
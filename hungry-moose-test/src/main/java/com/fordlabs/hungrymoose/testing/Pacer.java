@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.fordlabs.hungrymoose.testing;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands out send slots to the executions of a scenario under load, so together they keep to the target rate.
+ */
+final class Pacer {
+
+    /**
+     * Returned by {@link #awaitNextArrival()} once the schedule is over.
+     */
+    static final long FINISHED = Long.MIN_VALUE;
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long startNanos;
+    private final long endNanos;
+    private final boolean paced;
+    /**
+     * Slots are numbered from the start, the number of slots due after {@code t} seconds is
+     * {@code fromRps * t + rampRpsPerSecond / 2 * t * t}.
+     */
+    private final double fromRps;
+    private final double rampRpsPerSecond;
+    private final AtomicLong nextSlot = new AtomicLong();
+
+    Pacer(final long startNanos, final long durationNanos, final double targetRps) {
+        this(startNanos, durationNanos, targetRps, targetRps);
+    }
+
+    Pacer(final long startNanos, final long durationNanos, final double fromRps, final double toRps) {
+        this.startNanos = startNanos;
+        this.endNanos = startNanos + durationNanos;
+        this.paced = fromRps > 0 || toRps > 0;
+        this.fromRps = fromRps;
+        this.rampRpsPerSecond = durationNanos > 0 ? (toRps - fromRps) / (durationNanos / NANOS_PER_SECOND) : 0;
+    }
+
+    /**
+     * Waits for the next free slot, returning {@code false} once the next slot would fall after the end of the run.
+     */
+    boolean awaitNextSlot() {
+        final long now = System.nanoTime();
+        if (!this.paced) {
+            return now - this.endNanos < 0;
+        }
+        final double elapsedSeconds = (now - this.startNanos) / NANOS_PER_SECOND;
+        final long due = (long) Math.floor(this.fromRps * elapsedSeconds + this.rampRpsPerSecond / 2 * elapsedSeconds * elapsedSeconds);
+        final long slot = Math.max(this.nextSlot.getAndAccumulate(due, (next, current) -> Math.max(next, current) + 1), due);
+        return awaitSlot(slot) != FINISHED;
+    }
+
+    /**
+     * Waits for the next arrival of the fixed schedule, returning when it was meant to be sent or {@link #FINISHED}.
+     * Late arrivals are sent right away rather than skipped.
+     */
+    long awaitNextArrival() {
+        return awaitSlot(this.nextSlot.getAndIncrement());
+    }
+
+    private long awaitSlot(final long slot) {
+        final long sendAt = slotNanos(slot);
+        if (sendAt == FINISHED || sendAt - this.endNanos >= 0) {
+            return FINISHED;
+        }
+        long remaining;
+        while ((remaining = sendAt - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                return FINISHED;
+            }
+        }
+        return sendAt;
+    }
+
+    /**
+     * Solves the slot count for the time the slot is due, in the form that stays exact without a ramp and defined when
+     * the rate starts at zero.
+     */
+    private long slotNanos(final long slot) {
+        if (slot == 0) {
+            return this.startNanos;
+        }
+        final double discriminant = this.fromRps * this.fromRps + 2 * this.rampRpsPerSecond * slot;
+        final double divisor = discriminant < 0 ? 0 : this.fromRps + Math.sqrt(discriminant);
+        if (divisor <= 0) {
+            return FINISHED;
+        }
+        return this.startNanos + Math.round(2 * slot / divisor * NANOS_PER_SECOND);
+    }
+}
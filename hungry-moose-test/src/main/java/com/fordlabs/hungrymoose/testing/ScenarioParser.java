@@ -18,24 +18,78 @@
 package com.fordlabs.hungrymoose.testing;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLParser;
+import com.fordlabs.hungrymoose.model.LoadStage;
 import com.fordlabs.hungrymoose.model.Scenario;
+import org.apache.commons.lang3.Validate;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class ScenarioParser {
 
+    private static final String LOAD_DOCUMENT_FIELD = "load";
+
     public static List<Scenario> parse(Class<?> testClass, String fileName) {
         try {
-            YAMLParser yamlParser = new YAMLFactory().createParser(testClass.getClassLoader().getResourceAsStream(fileName));
-            ObjectMapper mapper = new ObjectMapper();
-            mapper.findAndRegisterModules();
-            return mapper.readValues(yamlParser, new TypeReference<Scenario>(){}).readAll();
+            ObjectMapper mapper = newMapper();
+            List<Scenario> scenarios = new ArrayList<>();
+            for (JsonNode document : readDocuments(mapper, testClass, fileName)) {
+                if (!document.has(LOAD_DOCUMENT_FIELD)) {
+                    Scenario scenario = mapper.treeToValue(document, Scenario.class);
+                    // Checked now, so a malformed latency budget fails before any scenario ran
+                    LatencyBudget.of(scenario);
+                    scenarios.add(scenario);
+                }
+            }
+            return scenarios;
+        }
+        catch (Exception e) {
+            throw new IllegalArgumentException("Unable to load resource from " + fileName + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the stages of the {@code load:} document of a spec file, none when it has no such document.
+     */
+    public static List<LoadStage> parseLoadStages(Class<?> testClass, String fileName) {
+        List<LoadStage> stages = null;
+        try {
+            ObjectMapper mapper = newMapper();
+            for (JsonNode document : readDocuments(mapper, testClass, fileName)) {
+                if (document.has(LOAD_DOCUMENT_FIELD)) {
+                    Validate.isTrue(stages == null, "Only one load document is allowed");
+                    stages = mapper.convertValue(document.get(LOAD_DOCUMENT_FIELD), new TypeReference<List<LoadStage>>(){});
+                }
+            }
         }
         catch (Exception e) {
             throw new IllegalArgumentException("Unable to load resource from " + fileName + ": " + e.getMessage(), e);
         }
+        if (stages == null) {
+            return Collections.emptyList();
+        }
+        for (LoadStage stage : stages) {
+            Validate.isTrue(stage.getDuration() > 0, "Load stages need a positive duration in " + fileName);
+            Validate.isTrue((stage.getFromRps() == null || stage.getFromRps() >= 0) && (stage.getTargetRps() == null || stage.getTargetRps() >= 0),
+                    "Load stage rates can't be negative in " + fileName);
+            Validate.isTrue(stage.getConcurrency() == null || stage.getConcurrency() > 0, "Load stage concurrency should be a positive number in " + fileName);
+        }
+        return stages;
+    }
+
+    private static ObjectMapper newMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        return mapper;
+    }
+
+    private static List<JsonNode> readDocuments(ObjectMapper mapper, Class<?> testClass, String fileName) throws Exception {
+        YAMLParser yamlParser = new YAMLFactory().createParser(testClass.getClassLoader().getResourceAsStream(fileName));
+        return mapper.readValues(yamlParser, JsonNode.class).readAll();
     }
-}
\ No newline at end of file
+}
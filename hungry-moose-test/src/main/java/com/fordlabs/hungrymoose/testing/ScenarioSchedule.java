@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.model.Scenario;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependencies between the scenarios of a spec file run side by side, from their {@code group} and {@code parallel}.
+ */
+public final class ScenarioSchedule {
+
+    private final List<List<Integer>> prerequisites;
+    private final boolean constrained;
+
+    private ScenarioSchedule(final List<List<Integer>> prerequisites, final boolean constrained) {
+        this.prerequisites = prerequisites;
+        this.constrained = constrained;
+    }
+
+    public static ScenarioSchedule of(final List<Scenario> scenarios) {
+        final List<List<Integer>> prerequisites = new ArrayList<>(scenarios.size());
+        final Map<String, Integer> lastOfGroup = new HashMap<>();
+        final List<Integer> sinceBarrier = new ArrayList<>();
+        int barrier = -1;
+        boolean constrained = false;
+
+        for (int index = 0; index < scenarios.size(); index++) {
+            final Scenario scenario = scenarios.get(index);
+            final Set<Integer> scenarioPrerequisites = new LinkedHashSet<>();
+            if (barrier >= 0) {
+                scenarioPrerequisites.add(barrier);
+            }
+            if (!scenario.canRunInParallel()) {
+                constrained = true;
+                scenarioPrerequisites.addAll(sinceBarrier);
+                sinceBarrier.clear();
+                barrier = index;
+            } else {
+                sinceBarrier.add(index);
+            }
+            if (scenario.getGroup() != null) {
+                constrained = true;
+                final Integer previous = lastOfGroup.put(scenario.getGroup(), index);
+                if (previous != null && previous > barrier) {
+                    scenarioPrerequisites.add(previous);
+                }
+            }
+            prerequisites.add(new ArrayList<>(scenarioPrerequisites));
+        }
+        return new ScenarioSchedule(prerequisites, constrained);
+    }
+
+    /**
+     * Indexes of the scenarios that must have finished before the scenario at {@code index} starts.
+     */
+    public List<Integer> getPrerequisites(final int index) {
+        return this.prerequisites.get(index);
+    }
+
+    /**
+     * Whether any scenario is grouped or not parallel, otherwise all of them can run in any order.
+     */
+    public boolean isConstrained() {
+        return this.constrained;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.model.Scenario;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.Validate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The slice of the suite run by this JVM. Scenarios are assigned by a stable hash of their spec file and name or group,
+ * or balanced by the durations of a previous run.
+ */
+@Slf4j
+@Getter
+public final class Shard {
+
+    public static final String INDEX_ENVIRONMENT_KEY = "hungrymoose.shard.index";
+    public static final String COUNT_ENVIRONMENT_KEY = "hungrymoose.shard.count";
+    public static final String DURATIONS_ENVIRONMENT_KEY = "hungrymoose.shard.durations";
+    public static final String RECORD_DURATIONS_ENVIRONMENT_KEY = "hungrymoose.shard.recordDurations";
+
+    private static volatile Shard current;
+
+    private final int index;
+    private final int count;
+    private final Map<String, Integer> balancedAssignments;
+
+    Shard(final int index, final int count, final Map<String, Long> recordedDurations) {
+        Validate.isTrue(count > 0, "%s must be positive but was %d", COUNT_ENVIRONMENT_KEY, count);
+        Validate.isTrue(index >= 0 && index < count, "%s must be between 0 and %d but was %d", INDEX_ENVIRONMENT_KEY, count - 1, index);
+        this.index = index;
+        this.count = count;
+        this.balancedAssignments = balance(recordedDurations, count);
+    }
+
+    /**
+     * The shard of this JVM, the whole suite unless sharding was configured.
+     */
+    public static Shard current() {
+        if (current == null) {
+            synchronized (Shard.class) {
+                if (current == null) {
+                    final String durations = System.getProperty(DURATIONS_ENVIRONMENT_KEY);
+                    current = new Shard(Integer.getInteger(INDEX_ENVIRONMENT_KEY, 0), Integer.getInteger(COUNT_ENVIRONMENT_KEY, 1),
+                            durations == null ? Collections.emptyMap() : readDurations(Paths.get(durations)));
+                }
+            }
+        }
+        return current;
+    }
+
+    public List<Scenario> select(final String specFileLocation, final List<Scenario> scenarios) {
+        if (this.count == 1) {
+            return scenarios;
+        }
+        final List<Scenario> selected = scenarios.stream().filter(scenario -> includes(specFileLocation, scenario)).collect(toList());
+        log.info("Shard {} of {} runs {} of {} scenarios from {}", this.index, this.count, selected.size(), scenarios.size(), specFileLocation);
+        return selected;
+    }
+
+    boolean includes(final String specFileLocation, final Scenario scenario) {
+        final String key = keyOf(specFileLocation, scenario);
+        final Integer balanced = this.balancedAssignments.get(key);
+        return (balanced != null ? balanced : hash(key) % this.count) == this.index;
+    }
+
+    /**
+     * Appends the duration of a scenario to the file named by {@code hungrymoose.shard.recordDurations}, if any.
+     * Forks may share the file since each line is written with a single append.
+     */
+    static void recordDuration(final String specFileLocation, final Scenario scenario, final long millis) {
+        final String location = System.getProperty(RECORD_DURATIONS_ENVIRONMENT_KEY);
+        if (location == null) {
+            return;
+        }
+        final String line = millis + "\t" + keyOf(specFileLocation, scenario) + "\t" + scenario.getName() + System.lineSeparator();
+        try {
+            Files.write(Paths.get(location), line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (final IOException e) {
+            log.warn("Unable to record the duration of scenario '{}' to {}", scenario.getName(), location, e);
+        }
+    }
+
+    static String keyOf(final String specFileLocation, final Scenario scenario) {
+        return scenario.getGroup() != null
+                ? specFileLocation + "#group:" + scenario.getGroup()
+                : specFileLocation + "#" + scenario.getName();
+    }
+
+    private static long hash(final String key) {
+        final CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    /**
+     * Reads the total duration of each sharding unit. A scenario recorded several times counts with its last duration.
+     */
+    static Map<String, Long> readDurations(final Path file) {
+        try {
+            final Map<String, Map<String, Long>> scenarioDurations = new HashMap<>();
+            for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                final String[] columns = line.split("\t", 3);
+                if (columns.length == 3) {
+                    scenarioDurations.computeIfAbsent(columns[1], key -> new HashMap<>()).put(columns[2], Long.parseLong(columns[0]));
+                }
+            }
+            final Map<String, Long> durations = new HashMap<>();
+            scenarioDurations.forEach((key, scenarios) -> durations.put(key, scenarios.values().stream().mapToLong(Long::longValue).sum()));
+            return durations;
+        } catch (final IOException | NumberFormatException e) {
+            throw new IllegalArgumentException("Unable to read scenario durations from " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Longest first onto the least loaded shard, ties broken by key and shard index so every fork computes the same.
+     */
+    private static Map<String, Integer> balance(final Map<String, Long> durations, final int count) {
+        final long[] loads = new long[count];
+        final Map<String, Integer> assignments = new HashMap<>();
+        durations.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> {
+                    int lightest = 0;
+                    for (int shard = 1; shard < count; shard++) {
+                        if (loads[shard] < loads[lightest]) {
+                            lightest = shard;
+                        }
+                    }
+                    loads[lightest] += entry.getValue();
+                    assignments.put(entry.getKey(), lightest);
+                });
+        return assignments;
+    }
+}
@@ -18,57 +18,87 @@
 package com.fordlabs.hungrymoose.testing;
 
 import com.fordlabs.hungrymoose.model.Scenario;
+import com.fordlabs.hungrymoose.requestbuilder.ExecutionStatistics;
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.requestbuilder.RequestClient;
+import com.fordlabs.hungrymoose.requestbuilder.ServiceTimeListener;
+import com.fordlabs.hungrymoose.transport.ApacheClassicTransport;
+import com.fordlabs.hungrymoose.transport.Timeouts;
+import com.fordlabs.hungrymoose.transport.TransportResponse;
 import com.fordlabs.hungrymoose.validator.ContentTypeValidator;
 import com.fordlabs.hungrymoose.validator.body.BodyValidator;
 import com.fordlabs.hungrymoose.validator.body.json.JsonResponseValidator;
 import com.fordlabs.hungrymoose.validator.body.string.StringBodyValidator;
+import lombok.Getter;
 import org.apache.http.HttpResponse;
-import org.apache.http.util.EntityUtils;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.hamcrest.StringDescription;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import static com.fordlabs.hungrymoose.requestbuilder.RequestClient.getResponse;
 import static com.google.common.net.MediaType.JSON_UTF_8;
 import static org.hamcrest.Matchers.is;
 
 public class TestCase {
 
     private final Scenario scenario;
-    private final UriUnderTest serverUnderTest;
+    private final RequestClient requestClient;
     private final BodyValidator jsonResponseValidator = new JsonResponseValidator();
     private final BodyValidator defaultBodyValidator = new StringBodyValidator();
     private final Class<?> testClass;
+    private volatile List<PreparedRequest> preparedRequests;
+    private final AtomicBoolean executed = new AtomicBoolean();
+    @Getter
+    private final ExecutionStatistics statistics = new ExecutionStatistics();
 
-    public TestCase(final Scenario scenario, UriUnderTest serverUnderTest, final Class<?> testClass) {
+    public TestCase(final Scenario scenario, final RequestClient requestClient, final Class<?> testClass) {
         this.scenario = scenario;
-        this.serverUnderTest = serverUnderTest;
+        this.requestClient = requestClient;
         this.testClass = testClass;
     }
 
     public void runTest() throws Exception {
-        verifyResponse(getResponse(this.serverUnderTest, this.scenario.getRequest()));
+        runTest(this.statistics, ServiceTimeListener.NONE);
+    }
+
+    /**
+     * Records into the given statistics instead of this scenario's, for the runner to report parts of a run apart.
+     * Only the first execution may share a memoized response, the repeated ones under load always go to the application.
+     */
+    void runTest(final ExecutionStatistics statistics, final ServiceTimeListener listener) throws Exception {
+        final boolean firstExecution = this.executed.compareAndSet(false, true);
+        verifyResponse(this.requestClient.getResponse(getPreparedRequests(), firstExecution, statistics, listener));
+    }
+
+    /**
+     * The requests are compiled on first use, once the application under test is running, and then reused by every
+     * execution. Concurrent first executions may each compile them, which is harmless since the result is identical.
+     */
+    private List<PreparedRequest> getPreparedRequests() {
+        List<PreparedRequest> result = this.preparedRequests;
+        if (result == null) {
+            result = this.requestClient.prepare(this.scenario);
+            this.preparedRequests = result;
+        }
+        return result;
     }
 
     protected void verifyResponse(final HttpResponse response) throws IOException {
+        verifyResponse(ApacheClassicTransport.toTransportResponse(response));
+    }
+
+    protected void verifyResponse(final TransportResponse response) {
         String contentType = ContentTypeValidator.validate(this.scenario.getResponse(), response);
 
-        final String responseBody = getResponseBody(response);
-        assertStatusLine(responseBody, response.getStatusLine().getStatusCode(), is(this.scenario.getResponse().getStatusCode().value()));
+        final String responseBody = response.getBody();
+        assertStatusLine(responseBody, response.getStatusCode(), is(this.scenario.getResponse().getStatusCode().value()));
 
         assertResponseBody(responseBody, contentType);
     }
 
-    private String getResponseBody(final HttpResponse response) throws IOException {
-        if (response.getEntity() == null) {
-            return "";
-        } else {
-            return EntityUtils.toString(response.getEntity(), "UTF-8");
-        }
-    }
-
     private void assertStatusLine(final String reason, final int actual, final Matcher<Integer> matcher) {
         if (!matcher.matches(actual)) {
             final Description description = new StringDescription();
@@ -96,6 +126,14 @@ public class TestCase {
         }
     }
 
+    public Scenario getScenario() {
+        return this.scenario;
+    }
+
+    public Timeouts getTimeouts() {
+        return getPreparedRequests().get(0).getTimeouts();
+    }
+
     public String getTestName() {
         return this.scenario.getName();
     }
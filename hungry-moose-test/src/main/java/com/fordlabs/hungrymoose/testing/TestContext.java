@@ -17,37 +17,215 @@
 
 package com.fordlabs.hungrymoose.testing;
 
+import com.fordlabs.hungrymoose.model.LoadStage;
+import com.fordlabs.hungrymoose.requestbuilder.RequestClient;
+import com.fordlabs.hungrymoose.transport.HttpTransport;
+import com.fordlabs.hungrymoose.transport.HttpTransportProvider;
+import com.fordlabs.hungrymoose.transport.HttpTransports;
+import com.fordlabs.hungrymoose.transport.InstanceRoutingTransport;
+import com.fordlabs.hungrymoose.transport.Timeouts;
+import com.fordlabs.hungrymoose.transport.TlsSettings;
+import com.fordlabs.hungrymoose.transport.TransportSettings;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.Validate;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 
-class TestContext {
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Slf4j
+class TestContext implements Closeable {
+    /**
+     * Every instance of the application, starting with the one the suite was configured with. Replaced by the
+     * instances of an already running application when one is reused.
+     */
     @Getter
-    private final UriUnderTest applicationUri;
+    private volatile List<UriUnderTest> applicationUris;
     private final Class<?> applicationClass;
     private final String[] activeProfiles;
     @Getter
     private final int threadCount;
     @Getter
+    private final int parallelism;
+    @Getter
     private final String specFileLocation;
+    @Getter
+    private final RequestClient requestClient;
+    private final String transport;
+    private final HttpTransportProvider transportProvider;
+    private final int requestedPort;
+    @Getter
+    private final boolean externalTarget;
+    @Getter
+    private final LoadProfile load;
+    private volatile ApplicationCache.Entry application;
 
     TestContext(UriUnderTest applicationUri, Class<?> applicationClass, String[] activeProfiles, int threadCount, String specFileLocation) {
+        this(applicationUri, applicationClass, activeProfiles, threadCount, specFileLocation, TestContextOptions.builder().build());
+    }
+
+    TestContext(UriUnderTest applicationUri, Class<?> applicationClass, String[] activeProfiles, int threadCount, String specFileLocation, TestContextOptions options) {
+        Validate.notNull(options, "options can't be null");
+        final String transport = options.getTransport();
+        final TlsSettings tlsSettings = options.getTlsSettings();
+        final Timeouts timeouts = options.getTimeouts();
+        final int parallelism = options.getParallelism();
+        final int instances = options.getInstances();
+        final boolean externalTarget = options.isExternalTarget();
+        final LoadProfile load = options.getLoad();
         Validate.notNull(applicationUri, "applicationUri can't be null");
-        Validate.notNull(applicationClass, "applicationClass can't be null");
+        if (!externalTarget) {
+            Validate.notNull(applicationClass, "applicationClass can't be null");
+        }
         Validate.notNull(activeProfiles, "activeProfiles can't be null");
         Validate.isTrue(threadCount > 0, "Thread Count should be a positive number");
         Validate.notNull(specFileLocation, "specFileLocation can't be null");
+        Validate.notNull(transport, "transport can't be null");
+        Validate.notNull(tlsSettings, "tlsSettings can't be null");
+        Validate.notNull(timeouts, "timeouts can't be null");
+        Validate.notNull(options.getInFlightLimiter(), "inFlightLimiter can't be null");
+        Validate.notNull(load, "load can't be null");
+        Validate.isTrue(load.getDurationMillis() >= 0 && load.getTargetRps() >= 0 && load.getConcurrency() >= 0, "Load settings can't be negative");
+        Validate.isTrue(!load.isOpenLoop() || load.getTargetRps() > 0 || !load.getStages().isEmpty(), "An open loop load needs a target rate");
+        Validate.isTrue(!load.isOpenLoop() || load.getStages().stream().allMatch(TestContext::hasTargetRate), "An open loop load needs a target rate in every stage");
+        Validate.isTrue(parallelism > 0, "Parallelism should be a positive number");
+        Validate.isTrue(instances > 0, "Instances should be a positive number");
+        Validate.isTrue(!externalTarget || applicationUri.getPort() != UriUnderTestFactory.DEFAULT_PORT, "An external target needs its port set with target.port");
+        Validate.isTrue(!externalTarget || !Transport.IN_PROCESS.equals(transport), "The in-process transport can't reach an external target");
 
-        this.applicationUri = applicationUri;
         this.applicationClass = applicationClass;
         this.activeProfiles = activeProfiles;
         this.threadCount = threadCount;
+        this.parallelism = parallelism;
         this.specFileLocation = specFileLocation;
+        final List<UriUnderTest> applicationUris = new ArrayList<>(instances);
+        applicationUris.add(applicationUri);
+        // An external target is a single address, however many instances may be behind it
+        while (!externalTarget && applicationUris.size() < instances) {
+            applicationUris.add(UriUnderTestFactory.getAnotherInstance(applicationUri));
+        }
+        this.applicationUris = applicationUris;
+        this.transport = transport;
+        this.transportProvider = HttpTransports.find(transport);
+        this.requestedPort = UriUnderTestFactory.getRequestedPort();
+        this.externalTarget = externalTarget;
+        this.load = load;
+        this.requestClient = new RequestClient(this::getApplicationUris, timeouts, options.getInFlightLimiter(), options.isMemoizeResponses(), () -> createTransport(tlsSettings, timeouts));
+    }
+
+    /**
+     * Number of concurrent executions of each scenario, {@link Load#concurrency()} under load if set.
+     */
+    int getConcurrency() {
+        return this.load.isEnabled() && this.load.getConcurrency() > 0 ? this.load.getConcurrency() : this.threadCount;
+    }
+
+    /**
+     * Most concurrent executions of a scenario at any time, which may be during one of the load stages.
+     */
+    int getMaxConcurrency() {
+        return this.load.getStages().stream()
+                .map(LoadStage::getConcurrency)
+                .filter(Objects::nonNull)
+                .reduce(getConcurrency(), Math::max);
+    }
+
+    private static boolean hasTargetRate(final LoadStage stage) {
+        return stage.getTargetRps() != null && stage.getTargetRps() > 0 || stage.getFromRps() != null && stage.getFromRps() > 0;
     }
 
+    UriUnderTest getApplicationUri() {
+        return this.applicationUris.get(0);
+    }
+
+    private HttpTransport createTransport(final TlsSettings tlsSettings, final Timeouts timeouts) {
+        final int maxConnections = getMaxConcurrency() * this.parallelism;
+        final List<UriUnderTest> instances = this.applicationUris;
+        if (instances.size() == 1) {
+            return this.transportProvider.create(new TransportSettings(instances.get(0), maxConnections, getApplicationContext(0), tlsSettings, timeouts));
+        }
+        final Map<String, HttpTransport> transports = new LinkedHashMap<>();
+        for (int i = 0; i < instances.size(); i++) {
+            final UriUnderTest instance = instances.get(i);
+            transports.put(InstanceRoutingTransport.keyOf(instance),
+                    this.transportProvider.create(new TransportSettings(instance, maxConnections, getApplicationContext(i), tlsSettings, timeouts)));
+        }
+        return new InstanceRoutingTransport(transports);
+    }
+
+    private ConfigurableApplicationContext getApplicationContext(final int instance) {
+        final ApplicationCache.Entry entry = this.application;
+        final ApplicationCache.RunningApplication running = entry == null ? null : entry.getApplication();
+        return running == null ? null : running.getContexts().get(instance);
+    }
+
+    /**
+     * Starts the application, or reuses the one already started for another test class with the same application
+     * class, profiles and transport. Nothing is started for an external target, which is expected to be running.
+     */
     void runApplication() {
-        final SpringApplication springApplication = new SpringApplication(this.applicationClass);
-        springApplication.setAdditionalProfiles(this.activeProfiles);
-        springApplication.run("--server.port=" + applicationUri.getPort());
+        if (this.externalTarget) {
+            log.info("Running scenarios against the external target {}", getApplicationUri());
+            return;
+        }
+        final ApplicationCache.Key key = new ApplicationCache.Key(this.applicationClass, Arrays.asList(this.activeProfiles), this.transport,
+                getApplicationUri().getTransferProtocol(), getApplicationUri().getHost(), this.requestedPort, this.applicationUris.size());
+        final List<UriUnderTest> instances = this.applicationUris;
+        this.application = ApplicationCache.shared().acquire(key, () -> startApplication(instances));
+        this.applicationUris = this.application.getApplication().getUris();
+    }
+
+    private ApplicationCache.RunningApplication startApplication(final List<UriUnderTest> instances) {
+        final List<UriUnderTest> uris = new ArrayList<>(instances.size());
+        final List<ConfigurableApplicationContext> contexts = new ArrayList<>(instances.size());
+        try {
+            for (final UriUnderTest instance : instances) {
+                final SpringApplication springApplication = new SpringApplication(this.applicationClass);
+                springApplication.setAdditionalProfiles(this.activeProfiles);
+                // Closed by the ApplicationCache, in one go with every other cached application
+                springApplication.setRegisterShutdownHook(false);
+                this.transportProvider.configureApplication(springApplication);
+                final ConfigurableApplicationContext context = springApplication.run("--server.port=" + instance.getPort());
+                contexts.add(context);
+                uris.add(getStartedUri(instance, context));
+            }
+        } catch (final RuntimeException e) {
+            contexts.forEach(ConfigurableApplicationContext::close);
+            throw e;
+        }
+        return new ApplicationCache.RunningApplication(uris, contexts);
+    }
+
+    /**
+     * The application is ready once {@link SpringApplication#run} returned, listening on the port its web server actually
+     * bound. Applications without a web server are only reached in process.
+     */
+    private static UriUnderTest getStartedUri(final UriUnderTest instance, final ConfigurableApplicationContext context) {
+        if (!(context instanceof WebServerApplicationContext)) {
+            return instance;
+        }
+        return new UriUnderTest(instance.getTransferProtocol(), instance.getHost(), ((WebServerApplicationContext) context).getWebServer().getPort());
+    }
+
+    /**
+     * Releases the connections and the application, which keeps running for other test classes while it is cached.
+     */
+    @Override
+    public void close() throws IOException {
+        this.requestClient.close();
+        final ApplicationCache.Entry entry = this.application;
+        this.application = null;
+        if (entry != null) {
+            ApplicationCache.shared().release(entry);
+        }
     }
 }
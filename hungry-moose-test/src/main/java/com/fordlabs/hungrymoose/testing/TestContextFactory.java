@@ -17,21 +17,54 @@
 
 package com.fordlabs.hungrymoose.testing;
 
+import com.fordlabs.hungrymoose.requestbuilder.InFlightLimiter;
+import com.fordlabs.hungrymoose.transport.Timeouts;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.Collections;
+
 class TestContextFactory {
 
     public static final String MISSING_SPEC_FILES_TEXT = "No spec file found. Are you missing the @SpecsFromResourcePath annotation?";
     public static final String MISSING_APPLICATION_TEXT = "No testable class found. Are you missing the @ApplicationToTest annotation?";
+    public static final String TRANSPORT_ENVIRONMENT_KEY = "hungrymoose.transport";
+    public static final String CONNECT_TIMEOUT_ENVIRONMENT_KEY = "hungrymoose.timeout.connect";
+    public static final String READ_TIMEOUT_ENVIRONMENT_KEY = "hungrymoose.timeout.read";
+    public static final String TOTAL_TIMEOUT_ENVIRONMENT_KEY = "hungrymoose.timeout.total";
+    public static final String IN_FLIGHT_LIMIT_ENVIRONMENT_KEY = "hungrymoose.inFlight.limit";
+    public static final String IN_FLIGHT_OVERFLOW_ENVIRONMENT_KEY = "hungrymoose.inFlight.overflow";
+    public static final String MEMOIZE_RESPONSES_ENVIRONMENT_KEY = "hungrymoose.memoizeResponses";
+    public static final String PARALLEL_ENVIRONMENT_KEY = "hungrymoose.parallel";
+    public static final String INSTANCES_ENVIRONMENT_KEY = "hungrymoose.instances";
+    public static final String LOAD_DURATION_ENVIRONMENT_KEY = "hungrymoose.load.duration";
+    public static final String LOAD_TARGET_RPS_ENVIRONMENT_KEY = "hungrymoose.load.targetRps";
+    public static final String LOAD_CONCURRENCY_ENVIRONMENT_KEY = "hungrymoose.load.concurrency";
+    public static final String LOAD_OPEN_LOOP_ENVIRONMENT_KEY = "hungrymoose.load.openLoop";
+    public static final String LOAD_STAGES_ENVIRONMENT_KEY = "hungrymoose.load.stages";
 
     static TestContext build(Class<?> testClass) {
+        final UriUnderTest applicationUri = UriUnderTestFactory.getUriUnderTest();
+        final boolean externalTarget = UriUnderTestFactory.isExternalTarget();
+        final Class<?> applicationClass = externalTarget ? findApplicationToTest(testClass) : getApplicationToTest(testClass);
+        final String specFileLocation = getSpecFileLocation(testClass);
         return new TestContext(
-                UriUnderTestFactory.getUriUnderTest(),
-                getApplicationToTest(testClass),
+                applicationUri,
+                applicationClass,
                 getActiveProfiles(testClass),
                 getThreadCount(testClass),
-                getSpecFileLocation(testClass));
+                specFileLocation,
+                TestContextOptions.builder()
+                        .transport(getTransport(testClass))
+                        .tlsSettings(TlsSettingsFactory.getTlsSettings(applicationUri))
+                        .timeouts(getTimeouts(testClass))
+                        .inFlightLimiter(getInFlightLimiter(testClass))
+                        .memoizeResponses(getMemoizeResponses(testClass))
+                        .parallelism(getParallelism(testClass))
+                        .instances(getInstances(testClass))
+                        .externalTarget(externalTarget)
+                        .load(getLoadProfile(testClass, specFileLocation))
+                        .build());
     }
 
     private static Class<?> getApplicationToTest(final Class<?> testClass) {
@@ -40,6 +73,14 @@ class TestContextFactory {
         else return annotation.value();
     }
 
+    /**
+     * An external target does not need the application on the classpath, only the spec files.
+     */
+    private static Class<?> findApplicationToTest(final Class<?> testClass) {
+        final ApplicationToTest annotation = AnnotationUtils.findAnnotation(testClass, ApplicationToTest.class);
+        return annotation == null ? null : annotation.value();
+    }
+
     private static String[] getActiveProfiles(final Class<?> testClass) {
         final ActiveProfiles activeProfiles = AnnotationUtils.findAnnotation(testClass, ActiveProfiles.class);
         return activeProfiles == null ? new String[0] : activeProfiles.value();
@@ -50,6 +91,64 @@ class TestContextFactory {
         return count == null ? 1 : count.value();
     }
 
+    private static int getParallelism(final Class<?> testClass) {
+        final Parallel parallel = AnnotationUtils.findAnnotation(testClass, Parallel.class);
+        return Integer.getInteger(PARALLEL_ENVIRONMENT_KEY, parallel == null ? 1 : parallel.value());
+    }
+
+    private static int getInstances(final Class<?> testClass) {
+        final Instances instances = AnnotationUtils.findAnnotation(testClass, Instances.class);
+        return Integer.getInteger(INSTANCES_ENVIRONMENT_KEY, instances == null ? 1 : instances.value());
+    }
+
+    private static LoadProfile getLoadProfile(final Class<?> testClass, final String specFileLocation) {
+        final Load load = AnnotationUtils.findAnnotation(testClass, Load.class);
+        final String targetRps = System.getProperty(LOAD_TARGET_RPS_ENVIRONMENT_KEY);
+        final String openLoop = System.getProperty(LOAD_OPEN_LOOP_ENVIRONMENT_KEY);
+        final String stages = System.getProperty(LOAD_STAGES_ENVIRONMENT_KEY);
+        if (load != null && load.duration() <= 0 && !load.stages()) {
+            throw new IllegalArgumentException("@Load needs a duration, or stages = true to run the load stages of the spec file");
+        }
+        final long durationMillis = Long.getLong(LOAD_DURATION_ENVIRONMENT_KEY, load == null ? 0 : load.duration());
+        return new LoadProfile(
+                durationMillis,
+                targetRps != null ? Double.parseDouble(targetRps) : load == null ? 0 : load.targetRps(),
+                Integer.getInteger(LOAD_CONCURRENCY_ENVIRONMENT_KEY, load == null ? 0 : load.concurrency()),
+                openLoop != null ? Boolean.parseBoolean(openLoop) : load != null && load.openLoop(),
+                (stages != null ? Boolean.parseBoolean(stages) : load != null && load.stages())
+                        ? ScenarioParser.parseLoadStages(testClass, specFileLocation) : Collections.emptyList());
+    }
+
+    private static String getTransport(final Class<?> testClass) {
+        final String systemPropertyValue = System.getProperty(TRANSPORT_ENVIRONMENT_KEY);
+        if (systemPropertyValue != null) return systemPropertyValue;
+        final Transport transport = AnnotationUtils.findAnnotation(testClass, Transport.class);
+        return transport == null ? Transport.APACHE_CLASSIC : transport.value();
+    }
+
+    private static Timeouts getTimeouts(final Class<?> testClass) {
+        final Timeout timeout = AnnotationUtils.findAnnotation(testClass, Timeout.class);
+        return new Timeouts(
+                Long.getLong(CONNECT_TIMEOUT_ENVIRONMENT_KEY, timeout == null ? 0 : timeout.connect()),
+                Long.getLong(READ_TIMEOUT_ENVIRONMENT_KEY, timeout == null ? 0 : timeout.read()),
+                Long.getLong(TOTAL_TIMEOUT_ENVIRONMENT_KEY, timeout == null ? 0 : timeout.total()));
+    }
+
+    private static InFlightLimiter getInFlightLimiter(final Class<?> testClass) {
+        final InFlightLimit inFlightLimit = AnnotationUtils.findAnnotation(testClass, InFlightLimit.class);
+        final String overflow = System.getProperty(IN_FLIGHT_OVERFLOW_ENVIRONMENT_KEY);
+        return new InFlightLimiter(
+                Integer.getInteger(IN_FLIGHT_LIMIT_ENVIRONMENT_KEY, inFlightLimit == null ? 0 : inFlightLimit.value()),
+                overflow != null ? InFlightLimit.Overflow.valueOf(overflow.toUpperCase())
+                        : inFlightLimit == null ? InFlightLimit.Overflow.WAIT : inFlightLimit.overflow());
+    }
+
+    private static boolean getMemoizeResponses(final Class<?> testClass) {
+        final String systemPropertyValue = System.getProperty(MEMOIZE_RESPONSES_ENVIRONMENT_KEY);
+        if (systemPropertyValue != null) return Boolean.parseBoolean(systemPropertyValue);
+        return AnnotationUtils.findAnnotation(testClass, MemoizeResponses.class) != null;
+    }
+
     private static String getSpecFileLocation(final Class<?> testClass) {
         final SpecsFromResourcePath resourceLocation = AnnotationUtils.findAnnotation(testClass, SpecsFromResourcePath.class);
         if(resourceLocation == null) throw new IllegalArgumentException(MISSING_SPEC_FILES_TEXT);
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.requestbuilder.InFlightLimiter;
+import com.fordlabs.hungrymoose.transport.Timeouts;
+import com.fordlabs.hungrymoose.transport.TlsSettings;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * How a suite sends its requests and runs its scenarios. Every option left out keeps the behaviour of a suite without
+ * the matching annotation.
+ */
+@Getter
+@Builder
+class TestContextOptions {
+    @Builder.Default
+    private final String transport = Transport.APACHE_CLASSIC;
+    @Builder.Default
+    private final TlsSettings tlsSettings = TlsSettings.jvmDefault();
+    @Builder.Default
+    private final Timeouts timeouts = Timeouts.none();
+    @Builder.Default
+    private final InFlightLimiter inFlightLimiter = InFlightLimiter.unlimited();
+    private final boolean memoizeResponses;
+    @Builder.Default
+    private final int parallelism = 1;
+    @Builder.Default
+    private final int instances = 1;
+    private final boolean externalTarget;
+    @Builder.Default
+    private final LoadProfile load = LoadProfile.none();
+}
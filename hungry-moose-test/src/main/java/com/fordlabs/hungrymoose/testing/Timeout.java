@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Suite-level timeouts in milliseconds, {@code 0} disables a timeout. A suite without it has no timeouts. A scenario's
+ * {@code timeout} replaces the read and total timeouts for that scenario.
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Timeout {
+
+    long DEFAULT_CONNECT_MILLIS = 10_000;
+    long DEFAULT_READ_MILLIS = 30_000;
+    long DEFAULT_TOTAL_MILLIS = 60_000;
+
+    /**
+     * How long opening a connection to the application may take.
+     */
+    long connect() default DEFAULT_CONNECT_MILLIS;
+
+    /**
+     * How long to wait for response data once the request has been sent.
+     */
+    long read() default DEFAULT_READ_MILLIS;
+
+    /**
+     * How long all executions of a scenario may take together before the stuck ones are interrupted.
+     */
+    long total() default DEFAULT_TOTAL_MILLIS;
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.transport.TlsSettings;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+
+public class TlsSettingsFactory {
+    public static final String TRUST_STORE_ENVIRONMENT_KEY = "hungrymoose.ssl.trustStore";
+    public static final String TRUST_STORE_PASSWORD_ENVIRONMENT_KEY = "hungrymoose.ssl.trustStorePassword";
+    public static final String TRUST_STORE_TYPE_ENVIRONMENT_KEY = "hungrymoose.ssl.trustStoreType";
+    public static final String TRUST_ALL_ENVIRONMENT_KEY = "hungrymoose.ssl.trustAll";
+    public static final String SESSION_CACHE_SIZE_ENVIRONMENT_KEY = "hungrymoose.ssl.sessionCacheSize";
+    public static final int DEFAULT_SESSION_CACHE_SIZE = 1000;
+    public static final String TLS_PROTOCOL = "TLS";
+
+    /**
+     * Builds the TLS settings for a suite. Only {@code https} targets get a dedicated {@link SSLContext}.
+     * Every other target uses the JVM default, which it never touches.
+     */
+    public static TlsSettings getTlsSettings(final UriUnderTest serverUnderTest) {
+        if (!"https".equalsIgnoreCase(serverUnderTest.getTransferProtocol())) {
+            return TlsSettings.jvmDefault();
+        }
+        final boolean trustAll = Boolean.parseBoolean(System.getProperty(TRUST_ALL_ENVIRONMENT_KEY));
+        try {
+            final SSLContext sslContext = SSLContext.getInstance(TLS_PROTOCOL);
+            sslContext.init(null, trustAll ? new TrustManager[]{new TrustAllTrustManager()} : getTrustManagers(), null);
+            sslContext.getClientSessionContext().setSessionCacheSize(Integer.getInteger(SESSION_CACHE_SIZE_ENVIRONMENT_KEY, DEFAULT_SESSION_CACHE_SIZE));
+            return new TlsSettings(sslContext, !trustAll);
+        } catch (final GeneralSecurityException | IOException e) {
+            throw new IllegalArgumentException("Unable to set up TLS for " + serverUnderTest + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static TrustManager[] getTrustManagers() throws GeneralSecurityException, IOException {
+        final String trustStoreLocation = System.getProperty(TRUST_STORE_ENVIRONMENT_KEY);
+        if (trustStoreLocation == null) {
+            // null makes SSLContext.init fall back to the JVM's default trust managers
+            return null;
+        }
+        final KeyStore trustStore = KeyStore.getInstance(System.getProperty(TRUST_STORE_TYPE_ENVIRONMENT_KEY, KeyStore.getDefaultType()));
+        final String password = System.getProperty(TRUST_STORE_PASSWORD_ENVIRONMENT_KEY);
+        try (InputStream trustStoreStream = openTrustStore(trustStoreLocation)) {
+            trustStore.load(trustStoreStream, password == null ? null : password.toCharArray());
+        }
+        final TrustManagerFactory trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(trustStore);
+        return trustManagerFactory.getTrustManagers();
+    }
+
+    private static InputStream openTrustStore(final String location) throws IOException {
+        if (Files.isRegularFile(Paths.get(location))) {
+            return new FileInputStream(location);
+        }
+        final InputStream resource = TlsSettingsFactory.class.getClassLoader().getResourceAsStream(location);
+        if (resource == null) {
+            throw new IOException("No trust store found at " + location);
+        }
+        return resource;
+    }
+
+    /**
+     * Accepts any certificate, meant for self-signed certificates on local targets only. Being an
+     * {@link X509ExtendedTrustManager} also skips the host name check, which is how the JDK client transports honour it.
+     */
+    private static class TrustAllTrustManager extends X509ExtendedTrustManager {
+        @Override
+        public void checkClientTrusted(final X509Certificate[] chain, final String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(final X509Certificate[] chain, final String authType) {
+        }
+
+        @Override
+        public void checkClientTrusted(final X509Certificate[] chain, final String authType, final Socket socket) {
+        }
+
+        @Override
+        public void checkServerTrusted(final X509Certificate[] chain, final String authType, final Socket socket) {
+        }
+
+        @Override
+        public void checkClientTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine) {
+        }
+
+        @Override
+        public void checkServerTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
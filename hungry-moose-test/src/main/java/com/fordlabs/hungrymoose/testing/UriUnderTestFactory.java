@@ -20,19 +20,41 @@ package com.fordlabs.hungrymoose.testing;
 import com.google.common.base.Preconditions;
 import org.apache.commons.lang3.math.NumberUtils;
 
-import java.io.IOException;
-import java.net.ServerSocket;
-
 public class UriUnderTestFactory {
     public static final String TARGET_HOST_ENVIRONMENT_KEY = "target.host";
     public static final String DEFAULT_HOST = "localhost";
     public static final String TARGET_PORT_ENVIRONMENT_KEY = "target.port";
+    /**
+     * Lets the web server bind any free port, the actual port is read from it once the application started.
+     */
     public static final int DEFAULT_PORT = 0;
     public static final String TARGET_PROTOCOL_ENVIRONMENT_KEY = "target.protocol";
     public static final String DEFAULT_PROTOCOL = "http";
+    public static final String TARGET_EXTERNAL_ENVIRONMENT_KEY = "target.external";
 
     public static UriUnderTest getUriUnderTest() {
-        return new UriUnderTest(getProtocol(), getHost(), getAvailablePort());
+        return new UriUnderTest(getProtocol(), getHost(), getRequestedPort());
+    }
+
+    /**
+     * Another instance of the application under test, on the same host with a port of its own assigned when it starts.
+     */
+    public static UriUnderTest getAnotherInstance(final UriUnderTest uriUnderTest) {
+        return new UriUnderTest(uriUnderTest.getTransferProtocol(), uriUnderTest.getHost(), DEFAULT_PORT);
+    }
+
+    /**
+     * The port asked for with {@code target.port}, {@code 0} when any free port will do.
+     */
+    public static int getRequestedPort() {
+        return getPortFromSystemProperty();
+    }
+
+    /**
+     * Whether the target is an application HungryMoose does not start itself, such as one running in a container.
+     */
+    public static boolean isExternalTarget() {
+        return Boolean.parseBoolean(getSystemProperty(TARGET_EXTERNAL_ENVIRONMENT_KEY));
     }
 
     private static String getProtocol() {
@@ -45,10 +67,6 @@ public class UriUnderTestFactory {
         return systemPropertyValue == null ? DEFAULT_HOST : systemPropertyValue;
     }
 
-    private static int getAvailablePort() {
-        return getPortFromSystemProperty() != 0 ? getPortFromSystemProperty() : getNextAvailablePort();
-    }
-
     private static int getPortFromSystemProperty() {
         final String systemPropertyValue = getSystemProperty(TARGET_PORT_ENVIRONMENT_KEY);
         return systemPropertyValue == null ? DEFAULT_PORT : NumberUtils.toInt(systemPropertyValue);
@@ -61,16 +79,4 @@ public class UriUnderTestFactory {
         }
         return System.getProperty(envName);
     }
-
-    private static int getNextAvailablePort() {
-        try {
-            // ServerSocket returns the first available port if portRunning is 0
-            final ServerSocket serverSocket = new ServerSocket(0);
-            final int availablePort = serverSocket.getLocalPort();
-            serverSocket.close();
-            return availablePort;
-        } catch (final IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.requestbuilder.RequestClient;
+import com.fordlabs.hungrymoose.testing.Transport;
+import org.apache.http.HttpResponse;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+
+import java.io.IOException;
+import java.util.concurrent.Future;
+
+/**
+ * Non-blocking transport backed by Apache HttpAsyncClient 4. Requests are multiplexed over a small number of
+ * I/O reactor threads instead of tying up one blocking socket read per caller.
+ */
+public class ApacheAsyncTransport implements HttpTransport {
+
+    private final CloseableHttpAsyncClient httpClient;
+
+    public ApacheAsyncTransport(final TransportSettings settings) {
+        this.httpClient = HttpAsyncClients.custom()
+                .setMaxConnTotal(settings.getMaxConnections())
+                .setMaxConnPerRoute(settings.getMaxConnections())
+                .setSSLContext(settings.getTlsSettings().getSslContext())
+                .setSSLHostnameVerifier(ApacheClassicTransport.hostnameVerifier(settings.getTlsSettings()))
+                .disableConnectionState()
+                .build();
+        this.httpClient.start();
+    }
+
+    @Override
+    public TransportResponse send(final PreparedRequest request) throws Exception {
+        final Future<HttpResponse> response = this.httpClient.execute(RequestClient.createRequest(request), null);
+        try {
+            return ApacheClassicTransport.toTransportResponse(response.get());
+        } catch (final InterruptedException e) {
+            // Interrupted by the watchdog, the exchange would otherwise keep its connection busy
+            response.cancel(true);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.close();
+    }
+
+    public static class Provider implements HttpTransportProvider {
+
+        @Override
+        public String getName() {
+            return Transport.APACHE_ASYNC;
+        }
+
+        @Override
+        public HttpTransport create(final TransportSettings settings) {
+            return new ApacheAsyncTransport(settings);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.requestbuilder.RequestClient;
+import com.fordlabs.hungrymoose.testing.Transport;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.springframework.http.HttpHeaders;
+
+import javax.net.ssl.HostnameVerifier;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking transport backed by Apache HttpClient 4 with a shared keep-alive connection pool.
+ */
+public class ApacheClassicTransport implements HttpTransport {
+
+    public static final long IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+    public static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    private final CloseableHttpClient httpClient;
+
+    public ApacheClassicTransport(final TransportSettings settings) {
+        this.httpClient = buildHttpClient(settings.getMaxConnections(), settings.getTlsSettings());
+    }
+
+    @Override
+    public TransportResponse send(final PreparedRequest request) throws Exception {
+        try (CloseableHttpResponse response = this.httpClient.execute(RequestClient.createRequest(request))) {
+            return toTransportResponse(response);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.httpClient.close();
+    }
+
+    /**
+     * Reads an Apache response fully, consuming its entity so the connection can be reused.
+     */
+    public static TransportResponse toTransportResponse(final HttpResponse response) throws IOException {
+        final HttpHeaders headers = new HttpHeaders();
+        if (response.getAllHeaders() != null) {
+            for (final Header header : response.getAllHeaders()) {
+                headers.add(header.getName(), header.getValue());
+            }
+        }
+
+        final HttpEntity entity = response.getEntity();
+        String body = "";
+        if (entity != null) {
+            if (entity.getContentType() != null) {
+                headers.set(HttpHeaders.CONTENT_TYPE, entity.getContentType().getValue());
+            }
+            body = EntityUtils.toString(entity, "UTF-8");
+        }
+
+        final int statusCode = response.getStatusLine() == null ? 0 : response.getStatusLine().getStatusCode();
+        return new TransportResponse(statusCode, headers, body);
+    }
+
+    private static CloseableHttpClient buildHttpClient(final int maxConnections, final TlsSettings tlsSettings) {
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", new SSLConnectionSocketFactory(tlsSettings.getSslContext(), hostnameVerifier(tlsSettings)))
+                .build());
+        connectionManager.setMaxTotal(maxConnections);
+        // Every scenario targets the same host, so the whole pool is available to that one route
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+        return HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                // Without this, TLS connections are tied to the thread that opened them and can't be shared
+                .disableConnectionState()
+                .build();
+    }
+
+    static HostnameVerifier hostnameVerifier(final TlsSettings tlsSettings) {
+        return tlsSettings.isVerifyHostname() ? SSLConnectionSocketFactory.getDefaultHostnameVerifier() : NoopHostnameVerifier.INSTANCE;
+    }
+
+    public static class Provider implements HttpTransportProvider {
+
+        @Override
+        public String getName() {
+            return Transport.APACHE_CLASSIC;
+        }
+
+        @Override
+        public HttpTransport create(final TransportSettings settings) {
+            return new ApacheClassicTransport(settings);
+        }
+    }
+}
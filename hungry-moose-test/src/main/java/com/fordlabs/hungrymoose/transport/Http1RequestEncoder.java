@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import org.springframework.http.HttpHeaders;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * Encodes a scenario request into the exact bytes sent on the wire.
+ */
+class Http1RequestEncoder {
+
+    private static final String CRLF = "\r\n";
+    // Framing headers are always derived from the request itself
+    private static final Set<String> FRAMING_HEADERS = Set.of("host", "content-length", "transfer-encoding");
+
+    static ByteBuffer encode(final PreparedRequest request) {
+        final URI uri = request.getUri();
+        final StringBuilder head = new StringBuilder(256)
+                .append(request.getMethod().name()).append(' ')
+                .append(uri.getRawPath().isEmpty() ? "/" : uri.getRawPath());
+        if (uri.getRawQuery() != null) {
+            head.append('?').append(uri.getRawQuery());
+        }
+        head.append(" HTTP/1.1").append(CRLF);
+        head.append(HttpHeaders.HOST).append(": ").append(uri.getHost()).append(':').append(uri.getPort()).append(CRLF);
+
+        for (int i = 0; i < request.getHeaderCount(); i++) {
+            if (FRAMING_HEADERS.contains(request.getHeaderName(i).toLowerCase())) continue;
+            head.append(request.getHeaderName(i)).append(": ").append(request.getHeaderValue(i)).append(CRLF);
+        }
+
+        final byte[] body = request.getBody();
+        if (request.hasBody()) {
+            head.append(HttpHeaders.CONTENT_LENGTH).append(": ").append(body.length).append(CRLF);
+        }
+        head.append(CRLF);
+
+        final byte[] headBytes = head.toString().getBytes(StandardCharsets.ISO_8859_1);
+        final ByteBuffer encoded = ByteBuffer.allocateDirect(headBytes.length + body.length);
+        encoded.put(headBytes).put(body).flip();
+        return encoded.asReadOnlyBuffer();
+    }
+}
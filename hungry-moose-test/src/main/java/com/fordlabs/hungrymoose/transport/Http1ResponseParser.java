@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import org.springframework.http.HttpHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Incremental HTTP/1.1 response parser, reset and reused for every response on a connection.
+ */
+class Http1ResponseParser {
+
+    private static final int INITIAL_BODY_CAPACITY = 8192;
+
+    private enum State { STATUS_LINE, HEADERS, BODY_FIXED, CHUNK_SIZE, CHUNK_DATA, CHUNK_DATA_END, TRAILERS, BODY_UNTIL_CLOSE, COMPLETE }
+
+    private final StringBuilder line = new StringBuilder(128);
+    private boolean lineComplete;
+    private byte[] body = new byte[INITIAL_BODY_CAPACITY];
+    private int bodyLength;
+    private long remaining;
+    private State state;
+    private int statusCode;
+    private boolean http10;
+    private boolean keepAlive;
+    private HttpHeaders headers;
+
+    Http1ResponseParser() {
+        reset();
+    }
+
+    void reset() {
+        this.line.setLength(0);
+        this.lineComplete = false;
+        this.bodyLength = 0;
+        this.remaining = 0;
+        this.state = State.STATUS_LINE;
+        this.statusCode = 0;
+        this.http10 = false;
+        this.keepAlive = true;
+        this.headers = new HttpHeaders();
+    }
+
+    /**
+     * Consumes as much of the buffer as belongs to the current response.
+     *
+     * @return {@code true} once the whole response has been read
+     */
+    boolean parse(final ByteBuffer buffer) {
+        while (buffer.hasRemaining() && this.state != State.COMPLETE) {
+            switch (this.state) {
+                case STATUS_LINE:
+                    if (readLine(buffer)) parseStatusLine();
+                    break;
+                case HEADERS:
+                    if (readLine(buffer)) parseHeaderLine();
+                    break;
+                case BODY_FIXED:
+                    this.remaining -= copyBody(buffer, this.remaining);
+                    if (this.remaining == 0) this.state = State.COMPLETE;
+                    break;
+                case CHUNK_SIZE:
+                    if (readLine(buffer)) parseChunkSize();
+                    break;
+                case CHUNK_DATA:
+                    this.remaining -= copyBody(buffer, this.remaining);
+                    if (this.remaining == 0) this.state = State.CHUNK_DATA_END;
+                    break;
+                case CHUNK_DATA_END:
+                    if (readLine(buffer)) this.state = State.CHUNK_SIZE;
+                    break;
+                case TRAILERS:
+                    if (readLine(buffer) && this.line.length() == 0) this.state = State.COMPLETE;
+                    break;
+                case BODY_UNTIL_CLOSE:
+                    copyBody(buffer, buffer.remaining());
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected parser state " + this.state);
+            }
+        }
+        return this.state == State.COMPLETE;
+    }
+
+    /**
+     * Signals that the server closed the connection.
+     *
+     * @return {@code true} if that legitimately ends the response
+     */
+    boolean endOfStream() {
+        if (this.state == State.BODY_UNTIL_CLOSE) {
+            this.state = State.COMPLETE;
+        }
+        return this.state == State.COMPLETE;
+    }
+
+    boolean isKeepAlive() {
+        return this.keepAlive;
+    }
+
+    TransportResponse toResponse() {
+        return new TransportResponse(this.statusCode, this.headers, new String(this.body, 0, this.bodyLength, StandardCharsets.UTF_8));
+    }
+
+    private boolean readLine(final ByteBuffer buffer) {
+        if (this.lineComplete) {
+            this.line.setLength(0);
+            this.lineComplete = false;
+        }
+        while (buffer.hasRemaining()) {
+            final char c = (char) (buffer.get() & 0xFF);
+            if (c == '\n') {
+                final int last = this.line.length() - 1;
+                if (last >= 0 && this.line.charAt(last) == '\r') this.line.setLength(last);
+                this.lineComplete = true;
+                return true;
+            }
+            this.line.append(c);
+        }
+        return false;
+    }
+
+    private void parseStatusLine() {
+        // HTTP/1.1 200 OK
+        final int firstSpace = this.line.indexOf(" ");
+        if (firstSpace < 0 || this.line.length() < firstSpace + 4) {
+            throw new IllegalStateException("Malformed status line: " + this.line);
+        }
+        this.http10 = this.line.indexOf("HTTP/1.0") == 0;
+        this.keepAlive = !this.http10;
+        this.statusCode = Integer.parseInt(this.line.substring(firstSpace + 1, firstSpace + 4));
+        this.state = State.HEADERS;
+    }
+
+    private void parseHeaderLine() {
+        if (this.line.length() > 0) {
+            final int colon = this.line.indexOf(":");
+            if (colon > 0) {
+                this.headers.add(this.line.substring(0, colon).trim(), this.line.substring(colon + 1).trim());
+            }
+            return;
+        }
+        startBody();
+    }
+
+    private void startBody() {
+        final String connection = this.headers.getFirst(HttpHeaders.CONNECTION);
+        if ("close".equalsIgnoreCase(connection)) this.keepAlive = false;
+        if ("keep-alive".equalsIgnoreCase(connection)) this.keepAlive = true;
+
+        final String transferEncoding = this.headers.getFirst(HttpHeaders.TRANSFER_ENCODING);
+        final String contentLength = this.headers.getFirst(HttpHeaders.CONTENT_LENGTH);
+        if (this.statusCode >= 100 && this.statusCode < 200) {
+            // Interim response, the real one follows on the same connection
+            this.headers = new HttpHeaders();
+            this.state = State.STATUS_LINE;
+        } else if (this.statusCode == 204 || this.statusCode == 304) {
+            this.state = State.COMPLETE;
+        } else if (transferEncoding != null && transferEncoding.toLowerCase().contains("chunked")) {
+            this.state = State.CHUNK_SIZE;
+        } else if (contentLength != null) {
+            this.remaining = Long.parseLong(contentLength.trim());
+            this.state = this.remaining == 0 ? State.COMPLETE : State.BODY_FIXED;
+        } else {
+            this.keepAlive = false;
+            this.state = State.BODY_UNTIL_CLOSE;
+        }
+    }
+
+    private void parseChunkSize() {
+        int end = this.line.indexOf(";");
+        if (end < 0) end = this.line.length();
+        this.remaining = Long.parseLong(this.line.substring(0, end).trim(), 16);
+        this.state = this.remaining == 0 ? State.TRAILERS : State.CHUNK_DATA;
+    }
+
+    private int copyBody(final ByteBuffer buffer, final long max) {
+        final int count = (int) Math.min(buffer.remaining(), max);
+        ensureBodyCapacity(this.bodyLength + count);
+        buffer.get(this.body, this.bodyLength, count);
+        this.bodyLength += count;
+        return count;
+    }
+
+    private void ensureBodyCapacity(final int capacity) {
+        if (capacity > this.body.length) {
+            this.body = Arrays.copyOf(this.body, Math.max(capacity, this.body.length * 2));
+        }
+    }
+}
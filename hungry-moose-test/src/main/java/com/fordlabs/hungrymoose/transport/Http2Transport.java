@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.testing.Transport;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatConnectorCustomizer;
+import org.springframework.util.ClassUtils;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP/2 transport backed by the JDK client, multiplexing executions as streams over a few shared connections.
+ */
+public class Http2Transport implements HttpTransport {
+
+    public static final int STREAMS_PER_CONNECTION = 100;
+    public static final int MAX_CONNECTIONS = 4;
+
+    private static final String TOMCAT_HTTP2_PROTOCOL = "org.apache.coyote.http2.Http2Protocol";
+
+    private final JdkHttpTransport[] connections;
+    private final AtomicInteger nextConnection = new AtomicInteger();
+
+    public Http2Transport(final TransportSettings settings) {
+        final int connectionCount = Math.min(MAX_CONNECTIONS, (settings.getMaxConnections() + STREAMS_PER_CONNECTION - 1) / STREAMS_PER_CONNECTION);
+        this.connections = new JdkHttpTransport[Math.max(1, connectionCount)];
+        for (int i = 0; i < this.connections.length; i++) {
+            this.connections[i] = new JdkHttpTransport(settings, HttpClient.Version.HTTP_2);
+            // Tomcat can fail to read the body of the request that carries the h2c upgrade, so the application started
+            // in-process is upgraded up front, an external target negotiates HTTP/2 on the first scenario request
+            if (settings.getApplicationContext() != null) {
+                this.connections[i].openConnection();
+            }
+        }
+    }
+
+    @Override
+    public TransportResponse send(final PreparedRequest request) throws Exception {
+        return this.connections[Math.floorMod(this.nextConnection.getAndIncrement(), this.connections.length)].send(request);
+    }
+
+    @Override
+    public void close() {
+        for (final JdkHttpTransport connection : this.connections) {
+            connection.close();
+        }
+    }
+
+    public static class Provider implements HttpTransportProvider {
+
+        @Override
+        public String getName() {
+            return Transport.HTTP2;
+        }
+
+        @Override
+        public void configureApplication(final SpringApplication application) {
+            // Spring Boot only enables h2c on Tomcat when asked through a connector customizer
+            if (ClassUtils.isPresent(TOMCAT_HTTP2_PROTOCOL, Http2Transport.class.getClassLoader())) {
+                application.addInitializers(context -> context.getBeanFactory().registerSingleton(
+                        "hungryMooseHttp2ConnectorCustomizer", (TomcatConnectorCustomizer) connector -> connector.addUpgradeProtocol(new Http2Protocol())));
+            }
+        }
+
+        @Override
+        public HttpTransport create(final TransportSettings settings) {
+            return new Http2Transport(settings);
+        }
+    }
+}
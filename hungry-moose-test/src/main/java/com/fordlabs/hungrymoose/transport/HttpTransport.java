@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+
+import java.io.Closeable;
+
+/**
+ * Sends scenario requests to the application under test. A transport is created once per test context and is
+ * shared by every execution of every scenario, so implementations must be thread safe.
+ */
+public interface HttpTransport extends Closeable {
+
+    TransportResponse send(final PreparedRequest request) throws Exception;
+
+}
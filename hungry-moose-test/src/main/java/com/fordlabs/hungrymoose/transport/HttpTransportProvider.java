@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import org.springframework.boot.SpringApplication;
+
+/**
+ * Service provider for an {@link HttpTransport}, discovered with {@link java.util.ServiceLoader}.
+ */
+public interface HttpTransportProvider {
+
+    String getName();
+
+    HttpTransport create(final TransportSettings settings);
+
+    /**
+     * Whether the application under test has to listen on a real port for this transport to reach it.
+     */
+    default boolean requiresWebServer() {
+        return true;
+    }
+
+    /**
+     * Adjusts an application started by HungryMoose before it runs, e.g. to enable a protocol on its embedded server.
+     */
+    default void configureApplication(final SpringApplication application) {
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import java.util.ServiceLoader;
+import java.util.StringJoiner;
+
+public class HttpTransports {
+
+    private static final String UNKNOWN_TRANSPORT_TEXT = "No HTTP transport named '%s' found. Available transports: %s";
+
+    public static HttpTransportProvider find(final String name) {
+        final StringJoiner available = new StringJoiner(", ");
+        for (final HttpTransportProvider provider : ServiceLoader.load(HttpTransportProvider.class, HttpTransports.class.getClassLoader())) {
+            if (provider.getName().equals(name)) {
+                return provider;
+            }
+            available.add(provider.getName());
+        }
+        throw new IllegalArgumentException(String.format(UNKNOWN_TRANSPORT_TEXT, name, available));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.testing.Transport;
+import org.springframework.boot.SpringApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Dispatches scenario requests straight to the application's {@code DispatcherServlet} through {@link MockMvc}.
+ * No web server is started and no socket is opened, which makes plain functional runs considerably faster.
+ */
+public class InProcessTransport implements HttpTransport {
+
+    public static final String MISSING_WEB_APPLICATION_TEXT = "The in-process transport needs a servlet based application started by HungryMoose";
+
+    private final MockMvc mockMvc;
+
+    public InProcessTransport(final TransportSettings settings) {
+        if (!(settings.getApplicationContext() instanceof WebApplicationContext)) {
+            throw new IllegalStateException(MISSING_WEB_APPLICATION_TEXT);
+        }
+        this.mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) settings.getApplicationContext())
+                .addFilter(InProcessTransport::lowerCaseHeaderNames)
+                .build();
+    }
+
+    @Override
+    public TransportResponse send(final PreparedRequest request) throws Exception {
+        final MockHttpServletResponse response = this.mockMvc.perform(buildRequest(request)).andReturn().getResponse();
+        final HttpHeaders headers = new HttpHeaders();
+        for (final String headerName : response.getHeaderNames()) {
+            headers.addAll(headerName, response.getHeaders(headerName));
+        }
+        return new TransportResponse(response.getStatus(), headers, response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() {
+        // The application context is owned by the test context, there is nothing to release here
+    }
+
+    private static MockHttpServletRequestBuilder buildRequest(final PreparedRequest request) {
+        final MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.request(HttpMethod.valueOf(request.getMethod().name()), request.getUri());
+        for (int i = 0; i < request.getHeaderCount(); i++) {
+            builder.header(request.getHeaderName(i), request.getHeaderValue(i));
+        }
+        if (request.getBody().length > 0) {
+            builder.content(request.getBody());
+        }
+        return builder;
+    }
+
+    private static void lowerCaseHeaderNames(final ServletRequest request, final ServletResponse response, final FilterChain chain) throws IOException, ServletException {
+        chain.doFilter(new LowerCaseHeaderNamesRequest((HttpServletRequest) request), response);
+    }
+
+    /**
+     * Servlet containers hand header names to the application in lower case, while MockMvc keeps them as written.
+     */
+    private static class LowerCaseHeaderNamesRequest extends HttpServletRequestWrapper {
+
+        LowerCaseHeaderNamesRequest(final HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            final Set<String> headerNames = new LinkedHashSet<>();
+            for (final String headerName : Collections.list(super.getHeaderNames())) {
+                headerNames.add(headerName.toLowerCase());
+            }
+            return Collections.enumeration(headerNames);
+        }
+    }
+
+    public static class Provider implements HttpTransportProvider {
+
+        @Override
+        public String getName() {
+            return Transport.IN_PROCESS;
+        }
+
+        @Override
+        public boolean requiresWebServer() {
+            return false;
+        }
+
+        @Override
+        public void configureApplication(final SpringApplication application) {
+            // Same setup as @SpringBootTest's mock environment: a servlet context without an embedded server
+            application.setApplicationContextClass(GenericWebApplicationContext.class);
+            application.addInitializers(context -> ((GenericWebApplicationContext) context).setServletContext(new MockServletContext()));
+        }
+
+        @Override
+        public HttpTransport create(final TransportSettings settings) {
+            return new InProcessTransport(settings);
+        }
+    }
+}
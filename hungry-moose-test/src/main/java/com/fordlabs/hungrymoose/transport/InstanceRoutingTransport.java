@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * Sends each request through the transport of the application instance its URI points to, when several instances of
+ * the application under test are running. Every instance keeps its own connections.
+ */
+public class InstanceRoutingTransport implements HttpTransport {
+
+    private final Map<String, HttpTransport> transports;
+
+    /**
+     * @param transports transport of each instance, keyed by {@link #keyOf(UriUnderTest)}
+     */
+    public InstanceRoutingTransport(final Map<String, HttpTransport> transports) {
+        this.transports = transports;
+    }
+
+    public static String keyOf(final UriUnderTest instance) {
+        return instance.getHost() + ":" + instance.getPort();
+    }
+
+    @Override
+    public TransportResponse send(final PreparedRequest request) throws Exception {
+        final URI uri = request.getUri();
+        final HttpTransport transport = this.transports.get(uri.getHost() + ":" + uri.getPort());
+        if (transport == null) {
+            throw new IllegalStateException("No application instance is running at " + uri.getHost() + ":" + uri.getPort());
+        }
+        return transport.send(request);
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (final HttpTransport transport : this.transports.values()) {
+            try {
+                transport.close();
+            } catch (final IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.testing.Transport;
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Transport backed by the JDK 11 {@link HttpClient}.
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+    // The JDK client manages these itself and refuses to send them explicitly
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private final UriUnderTest serverUnderTest;
+    private final HttpClient httpClient;
+
+    public JdkHttpTransport(final TransportSettings settings) {
+        this(settings, HttpClient.Version.HTTP_1_1);
+    }
+
+    protected JdkHttpTransport(final TransportSettings settings, final HttpClient.Version version) {
+        this.serverUnderTest = settings.getServerUnderTest();
+        // The JDK client has no host name switch and ignores an endpoint identification override in SSLParameters,
+        // a TlsSettings without host name verification carries an X509ExtendedTrustManager that skips the check itself
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+                .sslContext(settings.getTlsSettings().getSslContext())
+                .version(version)
+                .followRedirects(HttpClient.Redirect.NEVER);
+        // The JDK client has no way to disable a timeout other than leaving it unset
+        if (settings.getTimeouts().getConnectMillis() > 0) {
+            builder.connectTimeout(Duration.ofMillis(settings.getTimeouts().getConnectMillis()));
+        }
+        this.httpClient = builder.build();
+    }
+
+    @Override
+    public TransportResponse send(final PreparedRequest request) throws Exception {
+        final HttpResponse<String> response = this.httpClient.send(buildRequest(request), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        final HttpHeaders headers = new HttpHeaders();
+        for (final Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+            headers.addAll(header.getKey(), header.getValue());
+        }
+        return new TransportResponse(response.statusCode(), headers, response.body());
+    }
+
+    /**
+     * Sends a bodiless {@code OPTIONS} request so the connection is established, and upgraded to HTTP/2 where
+     * possible, before any scenario request is sent on it.
+     */
+    void openConnection() {
+        final HttpRequest request = HttpRequest.newBuilder(URI.create(this.serverUnderTest.toString() + "/"))
+                .method("OPTIONS", HttpRequest.BodyPublishers.noBody())
+                .build();
+        try {
+            this.httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (final IOException e) {
+            // The scenario request will open the connection itself and report the failure
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        // The JDK 11 client has no explicit lifecycle; its resources are released once it is unreachable
+    }
+
+    private static HttpRequest buildRequest(final PreparedRequest request) {
+        // The JDK client only has a client wide connect timeout and a per request timeout for the response headers
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                .method(request.getMethod().name(), request.hasBody()
+                        ? HttpRequest.BodyPublishers.ofByteArray(request.getBody())
+                        : HttpRequest.BodyPublishers.noBody());
+        if (request.getTimeouts().getReadMillis() > 0) {
+            builder.timeout(Duration.ofMillis(request.getTimeouts().getReadMillis()));
+        }
+        for (int i = 0; i < request.getHeaderCount(); i++) {
+            if (RESTRICTED_HEADERS.contains(request.getHeaderName(i).toLowerCase())) {
+                continue;
+            }
+            builder.header(request.getHeaderName(i), request.getHeaderValue(i));
+        }
+        return builder.build();
+    }
+
+    public static class Provider implements HttpTransportProvider {
+
+        @Override
+        public String getName() {
+            return Transport.JDK;
+        }
+
+        @Override
+        public HttpTransport create(final TransportSettings settings) {
+            return new JdkHttpTransport(settings);
+        }
+    }
+}
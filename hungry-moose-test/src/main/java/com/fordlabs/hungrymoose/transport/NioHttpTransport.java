@@ -0,0 +1,429 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.testing.Transport;
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal non-blocking HTTP/1.1 client for load generation, with keep-alive connections spread over a few selector
+ * threads. Only plain {@code http} targets are supported.
+ */
+public class NioHttpTransport implements HttpTransport {
+
+    public static final int MAX_SELECTOR_THREADS = 4;
+    public static final int READ_BUFFER_SIZE = 16 * 1024;
+
+    private final InetSocketAddress address;
+    private final int connectTimeoutMillis;
+    private final Map<PreparedRequest, ByteBuffer> encodedRequests = new ConcurrentHashMap<>();
+    private final Queue<Connection> idleConnections = new ConcurrentLinkedQueue<>();
+    private final Queue<ByteBuffer> readBuffers = new ConcurrentLinkedQueue<>();
+    private final Semaphore connectionPermits;
+    private final EventLoop[] eventLoops;
+    private final AtomicInteger nextEventLoop = new AtomicInteger();
+
+    public NioHttpTransport(final TransportSettings settings) {
+        final UriUnderTest serverUnderTest = settings.getServerUnderTest();
+        if (!"http".equalsIgnoreCase(serverUnderTest.getTransferProtocol())) {
+            throw new IllegalArgumentException("The nio transport only supports http targets, not " + serverUnderTest.getTransferProtocol());
+        }
+        this.address = new InetSocketAddress(serverUnderTest.getHost(), serverUnderTest.getPort());
+        this.connectTimeoutMillis = (int) settings.getTimeouts().getConnectMillis();
+        this.connectionPermits = new Semaphore(settings.getMaxConnections());
+        this.eventLoops = new EventLoop[Math.min(MAX_SELECTOR_THREADS, Math.min(settings.getMaxConnections(), Runtime.getRuntime().availableProcessors()))];
+        for (int i = 0; i < this.eventLoops.length; i++) {
+            this.eventLoops[i] = new EventLoop("hungry-moose-nio-" + i);
+        }
+    }
+
+    @Override
+    public TransportResponse send(final PreparedRequest request) throws Exception {
+        final ByteBuffer encoded = this.encodedRequests.computeIfAbsent(request, Http1RequestEncoder::encode);
+        final Connection idle = this.idleConnections.poll();
+        if (idle == null) {
+            return send(openConnection(), encoded, request);
+        }
+        try {
+            return send(idle, encoded, request);
+        } catch (final EOFException | ClosedChannelException e) {
+            if (idle.receivedResponseBytes) {
+                throw e;
+            }
+            // The server closed the idle connection just as it was reused, the request never reached it
+            this.connectionPermits.acquire();
+            return send(connect(), encoded, request);
+        }
+    }
+
+    private TransportResponse send(final Connection connection, final ByteBuffer encoded, final PreparedRequest request) throws Exception {
+        boolean reusable = false;
+        try {
+            final CompletableFuture<TransportResponse> response = new CompletableFuture<>();
+            connection.eventLoop.execute(() -> connection.start(encoded.duplicate(), response));
+            final TransportResponse result = awaitResponse(response, request.getTimeouts().getReadMillis());
+            reusable = connection.parser.isKeepAlive();
+            return result;
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } finally {
+            releaseConnection(connection, reusable);
+        }
+    }
+
+    private static TransportResponse awaitResponse(final CompletableFuture<TransportResponse> response, final long readTimeoutMillis) throws Exception {
+        if (readTimeoutMillis <= 0) {
+            return response.get();
+        }
+        try {
+            return response.get(readTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            // The connection is not reusable and gets closed, which also cancels its pending read
+            throw new SocketTimeoutException("No response within " + readTimeoutMillis + " ms");
+        }
+    }
+
+    @Override
+    public void close() {
+        Connection connection;
+        while ((connection = this.idleConnections.poll()) != null) {
+            connection.eventLoop.execute(connection::close);
+        }
+        for (final EventLoop eventLoop : this.eventLoops) {
+            eventLoop.close();
+        }
+    }
+
+    private Connection openConnection() throws Exception {
+        this.connectionPermits.acquire();
+        final Connection idleAfterWaiting = this.idleConnections.poll();
+        if (idleAfterWaiting != null) {
+            this.connectionPermits.release();
+            return idleAfterWaiting;
+        }
+        return connect();
+    }
+
+    /**
+     * Opens a new connection on an already acquired permit, releasing it again on failure.
+     */
+    private Connection connect() throws Exception {
+        final SocketChannel channel;
+        try {
+            channel = openChannel();
+        } catch (final IOException | RuntimeException e) {
+            this.connectionPermits.release();
+            throw e;
+        }
+        final EventLoop eventLoop = this.eventLoops[Math.floorMod(this.nextEventLoop.getAndIncrement(), this.eventLoops.length)];
+        final Connection connection = new Connection(channel, eventLoop, acquireReadBuffer());
+        final CompletableFuture<Void> connected = new CompletableFuture<>();
+        eventLoop.execute(() -> connection.connect(connected));
+        try {
+            awaitConnection(connected);
+            return connection;
+        } catch (final Exception e) {
+            releaseConnection(connection, false);
+            throw e;
+        }
+    }
+
+    private void awaitConnection(final CompletableFuture<Void> connected) throws Exception {
+        try {
+            if (this.connectTimeoutMillis <= 0) {
+                connected.get();
+            } else {
+                connected.get(this.connectTimeoutMillis, TimeUnit.MILLISECONDS);
+            }
+        } catch (final ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } catch (final TimeoutException e) {
+            throw new SocketTimeoutException("connect timed out");
+        }
+    }
+
+    /**
+     * Connections are only ever closed on their event loop, which may still be reading into their buffer.
+     */
+    private void releaseConnection(final Connection connection, final boolean reusable) {
+        if (reusable && connection.channel.isOpen()) {
+            this.idleConnections.add(connection);
+        } else {
+            connection.eventLoop.execute(() -> {
+                connection.close();
+                this.connectionPermits.release();
+            });
+        }
+    }
+
+    private static SocketChannel openChannel() throws IOException {
+        final SocketChannel channel = SocketChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+            return channel;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer acquireReadBuffer() {
+        final ByteBuffer buffer = this.readBuffers.poll();
+        return buffer == null ? ByteBuffer.allocateDirect(READ_BUFFER_SIZE) : buffer;
+    }
+
+    private class Connection {
+        private final SocketChannel channel;
+        private final EventLoop eventLoop;
+        private final ByteBuffer readBuffer;
+        private final Http1ResponseParser parser = new Http1ResponseParser();
+        private boolean closed;
+        private boolean receivedResponseBytes;
+        private SelectionKey key;
+        private CompletableFuture<Void> connected;
+        private ByteBuffer pendingWrite;
+        private CompletableFuture<TransportResponse> response;
+
+        Connection(final SocketChannel channel, final EventLoop eventLoop, final ByteBuffer readBuffer) {
+            this.channel = channel;
+            this.eventLoop = eventLoop;
+            this.readBuffer = readBuffer;
+        }
+
+        // Called on the event loop thread, like every method below
+        void connect(final CompletableFuture<Void> connected) {
+            this.connected = connected;
+            try {
+                if (this.channel.connect(address)) {
+                    connected.complete(null);
+                } else {
+                    this.key = this.channel.register(this.eventLoop.selector, SelectionKey.OP_CONNECT, this);
+                }
+            } catch (final IOException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        void finishConnect() throws IOException {
+            if (this.channel.finishConnect()) {
+                this.key.interestOps(0);
+                this.connected.complete(null);
+            }
+        }
+
+        void start(final ByteBuffer request, final CompletableFuture<TransportResponse> response) {
+            this.pendingWrite = request;
+            this.response = response;
+            if (this.closed) {
+                fail(new ClosedChannelException());
+                return;
+            }
+            this.receivedResponseBytes = false;
+            this.parser.reset();
+            try {
+                if (this.key == null) {
+                    this.key = this.channel.register(this.eventLoop.selector, SelectionKey.OP_WRITE, this);
+                } else {
+                    this.key.interestOps(SelectionKey.OP_WRITE);
+                }
+            } catch (final IOException | RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        void write() throws IOException {
+            this.channel.write(this.pendingWrite);
+            if (!this.pendingWrite.hasRemaining()) {
+                this.key.interestOps(SelectionKey.OP_READ);
+            }
+        }
+
+        void read() throws IOException {
+            if (this.response == null) {
+                // Idle, so the server either closed the connection or sent bytes nobody asked for
+                evict();
+                return;
+            }
+            this.readBuffer.clear();
+            final int read = this.channel.read(this.readBuffer);
+            if (read < 0) {
+                if (this.parser.endOfStream()) {
+                    complete();
+                } else {
+                    throw new EOFException("Connection closed by server before the response was complete");
+                }
+                return;
+            }
+            this.receivedResponseBytes = true;
+            this.readBuffer.flip();
+            if (this.parser.parse(this.readBuffer)) {
+                complete();
+            }
+        }
+
+        void fail(final Exception e) {
+            close();
+            if (this.connected != null) {
+                this.connected.completeExceptionally(e);
+            }
+            if (this.response != null) {
+                this.response.completeExceptionally(e);
+            }
+        }
+
+        void close() {
+            if (this.closed) {
+                return;
+            }
+            this.closed = true;
+            try {
+                this.channel.close();
+            } catch (final IOException ignored) {
+                // Nothing more can be done with a socket that fails to close
+            }
+            readBuffers.offer(this.readBuffer);
+        }
+
+        /**
+         * Keeps reading while idle, so a connection the server closes is evicted before it is handed out again.
+         */
+        private void complete() {
+            this.key.interestOps(SelectionKey.OP_READ);
+            final CompletableFuture<TransportResponse> completed = this.response;
+            this.response = null;
+            completed.complete(this.parser.toResponse());
+        }
+
+        private void evict() {
+            close();
+            // Already borrowed otherwise, the borrower retries and releases it
+            if (idleConnections.remove(this)) {
+                connectionPermits.release();
+            }
+        }
+    }
+
+    private static class EventLoop implements Runnable {
+        private final Selector selector;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private volatile boolean running = true;
+
+        EventLoop(final String name) {
+            try {
+                this.selector = Selector.open();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            final Thread thread = new Thread(this, name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void execute(final Runnable task) {
+            this.tasks.add(task);
+            this.selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                loop();
+            } finally {
+                // Closes connections released while the transport was closing
+                runTasks();
+                try {
+                    this.selector.close();
+                } catch (final IOException ignored) {
+                    // The transport is shutting down anyway
+                }
+            }
+        }
+
+        private void loop() {
+            while (this.running) {
+                try {
+                    this.selector.select();
+                } catch (final IOException e) {
+                    continue;
+                }
+                runTasks();
+                for (final SelectionKey key : this.selector.selectedKeys()) {
+                    final Connection connection = (Connection) key.attachment();
+                    try {
+                        if (key.isValid() && key.isConnectable()) connection.finishConnect();
+                        if (key.isValid() && key.isWritable()) connection.write();
+                        if (key.isValid() && key.isReadable()) connection.read();
+                    } catch (final IOException | RuntimeException e) {
+                        connection.fail(e);
+                    }
+                }
+                this.selector.selectedKeys().clear();
+            }
+        }
+
+        private void runTasks() {
+            Runnable task;
+            while ((task = this.tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        void close() {
+            this.running = false;
+            this.selector.wakeup();
+        }
+    }
+
+    public static class Provider implements HttpTransportProvider {
+
+        @Override
+        public String getName() {
+            return Transport.NIO;
+        }
+
+        @Override
+        public HttpTransport create(final TransportSettings settings) {
+            return new NioHttpTransport(settings);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Connect, read and total timeouts in milliseconds, where {@code 0} means no timeout.
+ */
+@Getter
+@AllArgsConstructor
+public class Timeouts {
+    private final long connectMillis;
+    private final long readMillis;
+    private final long totalMillis;
+
+    /**
+     * Used for suites without {@link com.fordlabs.hungrymoose.testing.Timeout}.
+     */
+    public static Timeouts none() {
+        return new Timeouts(0, 0, 0);
+    }
+
+    /**
+     * Applies a scenario's own timeout, which bounds both how long a response may take and how long the scenario
+     * may run. Connections are shared by every scenario, so the connect timeout stays the suite's.
+     */
+    public Timeouts overriddenBy(final Long scenarioTimeoutMillis) {
+        if (scenarioTimeoutMillis == null) {
+            return this;
+        }
+        return new Timeouts(this.connectMillis, scenarioTimeoutMillis, scenarioTimeoutMillis);
+    }
+}
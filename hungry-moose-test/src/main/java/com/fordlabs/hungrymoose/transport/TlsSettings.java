@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.net.ssl.SSLContext;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * TLS configuration shared by every connection of a suite. Building the {@link SSLContext} once means its client
+ * session cache is shared too, so new connections resume an existing session instead of doing a full handshake.
+ */
+@Getter
+@AllArgsConstructor
+public class TlsSettings {
+    private final SSLContext sslContext;
+    /**
+     * When {@code false}, the trust managers of the context must skip the host name check themselves, the JDK
+     * client based transports rely on them.
+     */
+    private final boolean verifyHostname;
+
+    public static TlsSettings jvmDefault() {
+        try {
+            return new TlsSettings(SSLContext.getDefault(), true);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No default SSLContext available", e);
+        }
+    }
+}
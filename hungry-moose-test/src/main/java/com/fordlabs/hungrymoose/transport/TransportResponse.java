@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * The response actually received from the application under test, independent of the transport that fetched it.
+ * The body is always fully read, so the underlying connection has already been released.
+ */
+@Getter
+public class TransportResponse {
+
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final String body;
+
+    public TransportResponse(final int statusCode, final HttpHeaders headers, final String body) {
+        this.statusCode = statusCode;
+        this.headers = headers;
+        this.body = body == null ? "" : body;
+    }
+
+    public String getContentType() {
+        return this.headers.getFirst(HttpHeaders.CONTENT_TYPE);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.context.ApplicationContext;
+
+@Getter
+@AllArgsConstructor
+public class TransportSettings {
+    private final UriUnderTest serverUnderTest;
+    private final int maxConnections;
+    /**
+     * The context started by HungryMoose, or {@code null} when the application is running elsewhere.
+     */
+    private final ApplicationContext applicationContext;
+    private final TlsSettings tlsSettings;
+    /**
+     * Suite-level timeouts, scenarios may override them through {@link com.fordlabs.hungrymoose.requestbuilder.PreparedRequest#getTimeouts()}.
+     */
+    private final Timeouts timeouts;
+}
@@ -18,6 +18,8 @@
 package com.fordlabs.hungrymoose.validator;
 
 import com.fordlabs.hungrymoose.model.Response;
+import com.fordlabs.hungrymoose.transport.TransportResponse;
+import org.apache.http.Header;
 import org.apache.http.HttpResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -31,13 +33,20 @@ public class ContentTypeValidator {
     private static final String MISMATCHED_CONTENT_TYPE = "Content-Type on actual not matching expected.%n Wanted: %s%n but found: %s";
 
     public static String validate(Response expectedResponse, HttpResponse actualResponse) {
+        HttpHeaders actualHeaders = new HttpHeaders();
+        Header actualContentType = actualResponse.getEntity().getContentType();
+        if (actualContentType != null) actualHeaders.set(HttpHeaders.CONTENT_TYPE, actualContentType.getValue());
+        return validate(expectedResponse, new TransportResponse(actualResponse.getStatusLine() == null ? 0 : actualResponse.getStatusLine().getStatusCode(), actualHeaders, ""));
+    }
+
+    public static String validate(Response expectedResponse, TransportResponse actualResponse) {
         MediaType contentType = expectedResponse.getHeaders().getContentType();
         if ((!expectedResponse.getBody().isEmpty() && expectedResponse.getHeaders().getContentType() == null)) throw new AssertionError(EXPECTED_CONTENT_TYPE_MISSING);
-        if(actualResponse.getEntity().getContentType() == null && expectedResponse.getHeaders().getContentType() != null) throw new AssertionError(ACTUAL_CONTENT_TYPE_MISSING);
+        if(actualResponse.getContentType() == null && expectedResponse.getHeaders().getContentType() != null) throw new AssertionError(ACTUAL_CONTENT_TYPE_MISSING);
         if (Objects.isNull(contentType)) return "";
 
         String expectedContentType = contentType.toString();
-        String actualContentType = actualResponse.getEntity().getContentType().getValue();
+        String actualContentType = actualResponse.getContentType();
         if(!actualContentType.equals(expectedContentType)) throw new AssertionError(String.format(MISMATCHED_CONTENT_TYPE, expectedContentType, actualContentType));
         return expectedContentType;
     }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.engine;
+
+import com.fordlabs.fordlabs.hungrymoose.acceptance.RapidStubApplication;
+import com.fordlabs.hungrymoose.testing.ApplicationToTest;
+import com.fordlabs.hungrymoose.testing.SpecsFromResourcePath;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SpecClassDescriptorTest {
+
+    @Test
+    public void runsClassLevelMethodsAroundTheScenarios() throws Exception {
+        SpecClassDescriptor descriptor = new SpecClassDescriptor(UniqueId.forEngine("hungry-moose"), AnnotatedSpec.class, ExecutionMode.SAME_THREAD, ExecutionMode.SAME_THREAD);
+
+        HungryMooseEngineExecutionContext context = descriptor.before(new HungryMooseEngineExecutionContext(null));
+        assertThat(AnnotatedSpec.calls, is(Arrays.asList("beforeClass")));
+        descriptor.after(context);
+
+        assertThat(AnnotatedSpec.calls, is(Arrays.asList("beforeClass", "afterClass")));
+    }
+
+    @ApplicationToTest(RapidStubApplication.class)
+    @SpecsFromResourcePath("api/hungrymoose/annotated-spec.yaml")
+    public static class AnnotatedSpec {
+
+        static final List<String> calls = new ArrayList<>();
+
+        @BeforeClass
+        public static void beforeClass() {
+            calls.add("beforeClass");
+        }
+
+        @AfterClass
+        public static void afterClass() {
+            calls.add("afterClass");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.model;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void parse_withUnit_ReturnsLatencyInThatUnit() {
+        assertThat(Latency.from("150ms").getNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+        assertThat(Latency.from("1.5s").getNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1500));
+        assertThat(Latency.from("250us").getNanos()).isEqualTo(TimeUnit.MICROSECONDS.toNanos(250));
+        assertThat(Latency.from("80 ns").getNanos()).isEqualTo(80);
+    }
+
+    @Test
+    public void parse_withoutUnit_ReturnsLatencyInMilliseconds() {
+        assertThat(Latency.from("200")).isEqualTo(Latency.ofMillis(200));
+    }
+
+    @Test
+    public void parse_withUnknownUnit_ThrowsInvalidLatencyException() {
+        expectedException.expect(InvalidLatencyException.class);
+        expectedException.expectMessage("'2 minutes' is not a valid latency, e.g. 150ms or 1.5s");
+
+        Latency.from("2 minutes");
+    }
+}
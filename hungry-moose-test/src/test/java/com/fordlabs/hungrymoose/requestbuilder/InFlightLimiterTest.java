@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+import com.fordlabs.hungrymoose.testing.InFlightLimit.Overflow;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InFlightLimiterTest {
+
+    @Test
+    public void unlimitedNeverSheds() throws Exception {
+        InFlightLimiter limiter = InFlightLimiter.unlimited();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(limiter.acquire()).isTrue();
+        }
+    }
+
+    @Test
+    public void shedsOnceLimitIsReached() throws Exception {
+        InFlightLimiter limiter = new InFlightLimiter(2, Overflow.SHED);
+
+        assertThat(limiter.acquire()).isTrue();
+        assertThat(limiter.acquire()).isTrue();
+        assertThat(limiter.acquire()).isFalse();
+
+        limiter.release();
+        assertThat(limiter.acquire()).isTrue();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsNegativeLimit() {
+        new InFlightLimiter(-1, Overflow.WAIT);
+    }
+}
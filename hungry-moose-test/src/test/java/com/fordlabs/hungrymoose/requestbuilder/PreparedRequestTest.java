@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+import com.fordlabs.hungrymoose.model.HttpMethod;
+import com.fordlabs.hungrymoose.model.Request;
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+import org.junit.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PreparedRequestTest {
+
+    private static final UriUnderTest SERVER_UNDER_TEST = new UriUnderTest("http", "localhost", 8080);
+
+    @Test
+    public void compile_resolvesUriAgainstServerUnderTest() {
+        PreparedRequest preparedRequest = PreparedRequest.compile(SERVER_UNDER_TEST, Request.from("GET /someurl?v1=1&v2=two\n"));
+
+        assertThat(preparedRequest.getMethod()).isEqualTo(HttpMethod.GET);
+        assertThat(preparedRequest.getUri()).isEqualTo(URI.create("http://localhost:8080/someurl?v1=1&v2=two"));
+        assertThat(preparedRequest.hasBody()).isFalse();
+        assertThat(preparedRequest.getBody()).isEmpty();
+    }
+
+    @Test
+    public void compile_flattensHeadersAndEncodesBody() {
+        PreparedRequest preparedRequest = PreparedRequest.compile(SERVER_UNDER_TEST,
+                Request.from("POST /someurl\nContent-Type: text/plain\nAccept: text/plain\n\nb\u00f6dy"));
+
+        assertThat(preparedRequest.getHeaderCount()).isEqualTo(2);
+        assertThat(preparedRequest.getHeaderName(0)).isEqualTo("Content-Type");
+        assertThat(preparedRequest.getHeaderValue(0)).isEqualTo("text/plain");
+        assertThat(preparedRequest.getHeaderName(1)).isEqualTo("Accept");
+        assertThat(preparedRequest.getHeaderValue(1)).isEqualTo("text/plain");
+        assertThat(preparedRequest.getBody()).isEqualTo("b\u00f6dy".getBytes(StandardCharsets.UTF_8));
+    }
+}
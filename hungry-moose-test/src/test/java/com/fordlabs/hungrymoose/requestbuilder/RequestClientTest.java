@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+import com.fordlabs.hungrymoose.model.Request;
+import com.fordlabs.hungrymoose.model.Scenario;
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+import com.fordlabs.hungrymoose.transport.HttpTransport;
+import com.fordlabs.hungrymoose.transport.Timeouts;
+import com.fordlabs.hungrymoose.transport.TransportResponse;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestClientTest {
+
+    private final List<Integer> ports = new ArrayList<>();
+
+    @Test
+    public void spreadsEverySendOfAScenarioAcrossTheServersUnderTest() throws Exception {
+        List<UriUnderTest> servers = Arrays.asList(new UriUnderTest("http", "localhost", 8081), new UriUnderTest("http", "localhost", 8082));
+        RequestClient requestClient = new RequestClient(() -> servers, Timeouts.none(), InFlightLimiter.unlimited(), false, () -> this.transport());
+
+        List<PreparedRequest> requests = requestClient.prepare(new Scenario("scenario", Request.from("GET /someurl\n"), null));
+        for (int i = 0; i < 4; i++) {
+            requestClient.getResponse(requests, true, new ExecutionStatistics(), ServiceTimeListener.NONE);
+        }
+
+        assertThat(this.ports).containsExactly(8081, 8082, 8081, 8082);
+    }
+
+    @Test
+    public void onlyTellsTheListenerAboutRequestsThatWereSent() throws Exception {
+        List<UriUnderTest> servers = Collections.singletonList(new UriUnderTest("http", "localhost", 8081));
+        RequestClient requestClient = new RequestClient(() -> servers, Timeouts.none(), InFlightLimiter.unlimited(), true, () -> this.transport());
+        List<Long> serviceTimes = new ArrayList<>();
+
+        List<PreparedRequest> requests = requestClient.prepare(new Scenario("scenario", Request.from("GET /someurl\n"), null));
+        for (int i = 0; i < 3; i++) {
+            requestClient.getResponse(requests, true, new ExecutionStatistics(), (sentNanos, receivedNanos) -> serviceTimes.add(receivedNanos - sentNanos));
+        }
+
+        assertThat(serviceTimes).hasSize(1);
+        assertThat(serviceTimes.get(0)).isNotNegative();
+    }
+
+    @Test
+    public void alwaysSendsRequestsThatAreNotMemoizable() throws Exception {
+        List<UriUnderTest> servers = Collections.singletonList(new UriUnderTest("http", "localhost", 8081));
+        RequestClient requestClient = new RequestClient(() -> servers, Timeouts.none(), InFlightLimiter.unlimited(), true, () -> this.transport());
+
+        List<PreparedRequest> requests = requestClient.prepare(new Scenario("scenario", Request.from("GET /someurl\n"), null));
+        requestClient.getResponse(requests, true, new ExecutionStatistics(), ServiceTimeListener.NONE);
+        for (int i = 0; i < 2; i++) {
+            requestClient.getResponse(requests, false, new ExecutionStatistics(), ServiceTimeListener.NONE);
+        }
+
+        assertThat(this.ports).hasSize(3);
+    }
+
+    private HttpTransport transport() {
+        return new HttpTransport() {
+            @Override
+            public TransportResponse send(final PreparedRequest request) {
+                RequestClientTest.this.ports.add(request.getUri().getPort());
+                return new TransportResponse(200, new HttpHeaders(), "");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.requestbuilder;
+
+import com.fordlabs.hungrymoose.model.Request;
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+import com.fordlabs.hungrymoose.transport.TransportResponse;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseCacheTest {
+
+    private static final UriUnderTest SERVER_UNDER_TEST = new UriUnderTest("http", "localhost", 8080);
+
+    private final ResponseCache responseCache = new ResponseCache();
+    private final ExecutionStatistics statistics = new ExecutionStatistics();
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    @Test
+    public void identicalGetRequestsShareOneResponse() throws Exception {
+        TransportResponse first = this.responseCache.get(prepare("GET /someurl\nAccept: text/plain\n"), this.statistics, this::fetch);
+        TransportResponse second = this.responseCache.get(prepare("GET /someurl\nAccept: text/plain\n"), this.statistics, this::fetch);
+
+        assertThat(second).isSameAs(first);
+        assertThat(this.fetches).hasValue(1);
+        assertThat(this.statistics.getMemoized()).isEqualTo(1);
+    }
+
+    @Test
+    public void requestsWithDifferentHeadersAreFetchedSeparately() throws Exception {
+        this.responseCache.get(prepare("GET /someurl\nAccept: text/plain\n"), this.statistics, this::fetch);
+        this.responseCache.get(prepare("GET /someurl\nAccept: application/json\n"), this.statistics, this::fetch);
+
+        assertThat(this.fetches).hasValue(2);
+    }
+
+    @Test
+    public void onlyGetRequestsAreCacheable() {
+        assertThat(ResponseCache.isCacheable(prepare("GET /someurl\n"))).isTrue();
+        assertThat(ResponseCache.isCacheable(prepare("DELETE /someurl\n"))).isFalse();
+    }
+
+    @Test
+    public void failuresAreNotCached() throws Exception {
+        try {
+            this.responseCache.get(prepare("GET /someurl\n"), this.statistics, () -> {
+                throw new IOException("Connection refused");
+            });
+        } catch (IOException ignored) {
+        }
+
+        this.responseCache.get(prepare("GET /someurl\n"), this.statistics, this::fetch);
+
+        assertThat(this.fetches).hasValue(1);
+    }
+
+    private TransportResponse fetch() {
+        this.fetches.incrementAndGet();
+        return new TransportResponse(200, new HttpHeaders(), "body");
+    }
+
+    private static PreparedRequest prepare(String request) {
+        return PreparedRequest.compile(SERVER_UNDER_TEST, Request.from(request));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import org.junit.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class ApplicationCacheTest {
+
+    private final AtomicInteger starts = new AtomicInteger();
+
+    @Test
+    public void startsAnApplicationOnceForEveryTestClassAskingForIt() {
+        ApplicationCache cache = new ApplicationCache(2);
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+
+        ApplicationCache.Entry first = cache.acquire(key(String.class), () -> start(context));
+        cache.release(first);
+        ApplicationCache.Entry second = cache.acquire(key(String.class), () -> start(context));
+
+        assertThat(starts).hasValue(1);
+        assertThat(second).isSameAs(first);
+        verify(context, never()).close();
+    }
+
+    @Test
+    public void closesTheLeastRecentlyUsedApplicationBeyondTheMaximumSize() {
+        ApplicationCache cache = new ApplicationCache(2);
+        ConfigurableApplicationContext leastRecentlyUsed = mock(ConfigurableApplicationContext.class);
+        ConfigurableApplicationContext recentlyUsed = mock(ConfigurableApplicationContext.class);
+
+        cache.release(cache.acquire(key(String.class), () -> start(leastRecentlyUsed)));
+        cache.release(cache.acquire(key(Integer.class), () -> start(recentlyUsed)));
+        cache.release(cache.acquire(key(String.class), () -> start(leastRecentlyUsed)));
+        cache.release(cache.acquire(key(Long.class), () -> start(mock(ConfigurableApplicationContext.class))));
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(recentlyUsed).close();
+        verify(leastRecentlyUsed, never()).close();
+    }
+
+    @Test
+    public void closesAnEvictedApplicationOnlyOnceItsTestClassReleasedIt() {
+        ApplicationCache cache = new ApplicationCache(0);
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+
+        ApplicationCache.Entry entry = cache.acquire(key(String.class), () -> start(context));
+        verify(context, never()).close();
+
+        cache.release(entry);
+        verify(context).close();
+    }
+
+    @Test
+    public void startsAgainAfterAFailedStart() {
+        ApplicationCache cache = new ApplicationCache(2);
+
+        assertThatThrownBy(() -> cache.acquire(key(String.class), () -> {
+            throw new IllegalStateException("Port already in use");
+        })).hasMessage("Port already in use");
+        cache.acquire(key(String.class), () -> start(mock(ConfigurableApplicationContext.class)));
+
+        assertThat(starts).hasValue(1);
+    }
+
+    @Test
+    public void closesEveryCachedApplicationAtTheEndOfTheRun() {
+        ApplicationCache cache = new ApplicationCache(2);
+        ConfigurableApplicationContext inUse = mock(ConfigurableApplicationContext.class);
+        ConfigurableApplicationContext unused = mock(ConfigurableApplicationContext.class);
+        cache.acquire(key(String.class), () -> start(inUse));
+        cache.release(cache.acquire(key(Integer.class), () -> start(unused)));
+
+        cache.closeAll();
+
+        assertThat(cache.size()).isZero();
+        verify(inUse).close();
+        verify(unused).close();
+    }
+
+    private ApplicationCache.RunningApplication start(ConfigurableApplicationContext context) {
+        starts.incrementAndGet();
+        return new ApplicationCache.RunningApplication(singletonList(new UriUnderTest("http", "localhost", 8080)), singletonList(context));
+    }
+
+    private static ApplicationCache.Key key(Class<?> applicationClass) {
+        return new ApplicationCache.Key(applicationClass, Collections.emptyList(), Transport.APACHE_CLASSIC, "http", "localhost", 0, 1);
+    }
+}
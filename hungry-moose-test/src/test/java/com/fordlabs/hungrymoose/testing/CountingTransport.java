@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.transport.HttpTransport;
+import com.fordlabs.hungrymoose.transport.HttpTransportProvider;
+import com.fordlabs.hungrymoose.transport.TransportResponse;
+import com.fordlabs.hungrymoose.transport.TransportSettings;
+import org.springframework.http.HttpHeaders;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Answers every request with an empty {@code 200}, after an optional delay, and counts what reached which instance.
+ */
+public class CountingTransport implements HttpTransport {
+
+    static final String NAME = "counting";
+
+    private static final Map<Integer, AtomicInteger> sentByPort = new ConcurrentHashMap<>();
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger maxInFlight = new AtomicInteger();
+    private static volatile long delayMillis;
+
+    private final int port;
+
+    private CountingTransport(final int port) {
+        this.port = port;
+    }
+
+    static void reset(final long delayMillis) {
+        sentByPort.clear();
+        maxInFlight.set(0);
+        CountingTransport.delayMillis = delayMillis;
+    }
+
+    static Map<Integer, Integer> getSentByPort() {
+        final Map<Integer, Integer> result = new ConcurrentHashMap<>();
+        sentByPort.forEach((port, sent) -> result.put(port, sent.get()));
+        return result;
+    }
+
+    static int getSent() {
+        return sentByPort.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    static int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    @Override
+    public TransportResponse send(final PreparedRequest request) throws Exception {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            sentByPort.computeIfAbsent(this.port, port -> new AtomicInteger()).incrementAndGet();
+            if (delayMillis > 0) {
+                Thread.sleep(delayMillis);
+            }
+            return new TransportResponse(200, new HttpHeaders(), "");
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+    public static class Provider implements HttpTransportProvider {
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public HttpTransport create(final TransportSettings settings) {
+            return new CountingTransport(settings.getServerUnderTest().getPort());
+        }
+    }
+}
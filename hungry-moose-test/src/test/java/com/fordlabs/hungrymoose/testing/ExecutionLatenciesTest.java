@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import org.HdrHistogram.Histogram;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExecutionLatenciesTest {
+
+    @Test
+    public void mergesTheLatenciesOfEveryExecution() {
+        ExecutionLatencies latencies = new ExecutionLatencies();
+        try (ExecutionLatencies.Buffer first = latencies.newBuffer()) {
+            for (int i = 1; i <= 99; i++) {
+                first.record(TimeUnit.MILLISECONDS.toNanos(i));
+            }
+        }
+        try (ExecutionLatencies.Buffer second = latencies.newBuffer()) {
+            second.record(TimeUnit.SECONDS.toNanos(2));
+        }
+        Histogram merged = latencies.merge();
+
+        assertThat(merged.getTotalCount()).isEqualTo(100);
+        assertThat(merged.getValueAtPercentile(50)).isBetween(TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MICROSECONDS.toNanos(50_050));
+        assertThat(merged.getMaxValue()).isBetween(TimeUnit.SECONDS.toNanos(2), TimeUnit.MILLISECONDS.toNanos(2_002));
+    }
+
+    @Test
+    public void recordsLatenciesBeyondTheRangeAsItsHighestValue() {
+        ExecutionLatencies latencies = new ExecutionLatencies();
+        try (ExecutionLatencies.Buffer buffer = latencies.newBuffer()) {
+            buffer.record(TimeUnit.HOURS.toNanos(3));
+        }
+
+        assertThat(latencies.merge().getMaxValue()).isGreaterThanOrEqualTo(ExecutionLatencies.HIGHEST_TRACKABLE_NANOS);
+    }
+
+    @Test
+    public void onlyMergesExecutionsThatAreOver() {
+        ExecutionLatencies latencies = new ExecutionLatencies();
+        ExecutionLatencies.Buffer running = latencies.newBuffer();
+        running.record(TimeUnit.MILLISECONDS.toNanos(4));
+
+        assertThat(latencies.merge().getTotalCount()).isZero();
+    }
+
+    @Test
+    public void resetsPooledHistogramsForTheirNextExecution() {
+        ExecutionLatencies first = new ExecutionLatencies();
+        try (ExecutionLatencies.Buffer buffer = first.newBuffer()) {
+            buffer.record(TimeUnit.MILLISECONDS.toNanos(4));
+        }
+        ExecutionLatencies second = new ExecutionLatencies();
+        try (ExecutionLatencies.Buffer buffer = second.newBuffer()) {
+            buffer.record(TimeUnit.MILLISECONDS.toNanos(8));
+        }
+
+        assertThat(first.merge().getTotalCount()).isEqualTo(1);
+        assertThat(second.merge().getTotalCount()).isEqualTo(1);
+        assertThat(second.merge().getMaxValue()).isBetween(TimeUnit.MILLISECONDS.toNanos(8), TimeUnit.MICROSECONDS.toNanos(8_010));
+    }
+
+    @Test
+    public void keepsConcurrentExecutionsApart() {
+        ExecutionLatencies latencies = new ExecutionLatencies();
+        ExecutionLatencies.Buffer first = latencies.newBuffer();
+        ExecutionLatencies.Buffer second = latencies.newBuffer();
+        first.record(TimeUnit.MILLISECONDS.toNanos(4));
+        second.record(TimeUnit.MILLISECONDS.toNanos(8));
+        first.close();
+        second.close();
+
+        assertThat(latencies.merge().getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void describesThePercentiles() {
+        ExecutionLatencies latencies = new ExecutionLatencies();
+        try (ExecutionLatencies.Buffer buffer = latencies.newBuffer()) {
+            buffer.record(TimeUnit.MILLISECONDS.toNanos(4));
+        }
+
+        assertThat(ExecutionLatencies.describe(latencies.merge())).isEqualTo("latency p50 4.00 ms p90 4.00 ms p99 4.00 ms p99.9 4.00 ms max 4.00 ms");
+        assertThat(ExecutionLatencies.describe(ExecutionLatencies.newHistogram())).isEqualTo("no latencies recorded");
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import org.junit.Test;
+
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExecutionOutcomesTest {
+
+    private final ExecutionOutcomes outcomes = new ExecutionOutcomes();
+
+    @Test
+    public void reportsNothingWhenEveryExecutionSucceeded() {
+        outcomes.newBuffer().recordSuccess();
+        outcomes.newBuffer().recordSuccess();
+
+        assertThat(outcomes.toFailure()).isNull();
+        assertThat(outcomes).hasToString("2 succeeded, 0 failed");
+    }
+
+    @Test
+    public void reportsASingleFailureAsIs() {
+        AssertionError failure = new AssertionError("expected 200");
+        outcomes.newBuffer().recordSuccess();
+        outcomes.newBuffer().recordFailure(failure);
+
+        assertThat(outcomes.toFailure()).isSameAs(failure);
+    }
+
+    @Test
+    public void countsIdenticalFailuresAcrossExecutionsOnce() {
+        ExecutionOutcomes.Buffer first = outcomes.newBuffer();
+        ExecutionOutcomes.Buffer second = outcomes.newBuffer();
+        ExecutionOutcomes.Buffer third = outcomes.newBuffer();
+        for (int i = 0; i < 3000; i++) {
+            (i % 2 == 0 ? first : second).recordFailure(serviceUnavailable());
+        }
+        SocketTimeoutException timeout = new SocketTimeoutException("Read timed out");
+        second.recordFailure(timeout);
+        third.recordSuccess();
+
+        Throwable failure = outcomes.toFailure();
+
+        assertThat(failure).isInstanceOf(ExecutionFailures.class)
+                .hasMessage("3,001 of 3,002 executions failed: 3,000 x 503 Service Unavailable, 1 x Read timed out");
+        assertThat(failure.getCause()).hasMessage("503 Service Unavailable");
+        assertThat(failure.getSuppressed()).containsExactly(timeout);
+        assertThat(outcomes).hasToString("1 succeeded, 3001 failed");
+    }
+
+    @Test
+    public void tellsFailuresWithTheSameMessageApartByWhereTheyWereThrown() {
+        ExecutionOutcomes.Buffer buffer = outcomes.newBuffer();
+        buffer.recordFailure(serviceUnavailable());
+        buffer.recordFailure(new AssertionError("503 Service Unavailable"));
+
+        assertThat(outcomes.toFailure()).hasMessage("2 of 2 executions failed: 1 x 503 Service Unavailable, 1 x 503 Service Unavailable");
+    }
+
+    private static AssertionError serviceUnavailable() {
+        return new AssertionError("503 Service Unavailable");
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.testing.ExecutionPool.Execution;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExecutionPoolTest {
+
+    @Test
+    public void reusesThreadsAcrossExecutions() throws Exception {
+        ExecutionPool pool = new ExecutionPool(false);
+        AtomicReference<Thread> first = new AtomicReference<>();
+        AtomicReference<Thread> second = new AtomicReference<>();
+
+        pool.submit("first", () -> first.set(Thread.currentThread())).join();
+        // the execution is over slightly before its thread is back waiting for work
+        while (first.get().getState() == Thread.State.RUNNABLE) {
+            Thread.sleep(10);
+        }
+        pool.submit("second", () -> second.set(Thread.currentThread())).join();
+
+        assertThat(second.get()).isSameAs(first.get());
+    }
+
+    @Test
+    public void namesTheThreadAfterTheExecutionWhileItRuns() throws Exception {
+        ExecutionPool pool = new ExecutionPool(false);
+        AtomicReference<String> name = new AtomicReference<>();
+
+        Execution execution = pool.submit("hungry-moose-Get a stub-0", () -> name.set(Thread.currentThread().getName()));
+        execution.join();
+
+        assertThat(name.get()).isEqualTo("hungry-moose-Get a stub-0");
+        assertThat(execution.isAlive()).isFalse();
+    }
+
+    @Test
+    public void usesVirtualThreadsOnlyWhenTheJdkHasThem() throws Exception {
+        ExecutionPool pool = new ExecutionPool(true);
+        boolean jdkHasVirtualThreads = Runtime.version().feature() >= 21;
+        AtomicReference<Boolean> daemon = new AtomicReference<>();
+
+        pool.submit("virtual", () -> daemon.set(Thread.currentThread().isDaemon())).join();
+
+        assertThat(pool.usesVirtualThreads()).isEqualTo(jdkHasVirtualThreads);
+        assertThat(daemon.get()).isTrue();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.testing.ExecutionPool.Execution;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExecutionWatchdogTest {
+
+    private final ExecutionPool pool = new ExecutionPool(false);
+
+    @Test
+    public void returnsNothingWhenExecutionsFinishInTime() throws Exception {
+        Execution execution = pool.submit("quick", () -> { });
+
+        assertThat(ExecutionWatchdog.awaitExecutions("Quick", singletonList(execution), 5000)).isNull();
+    }
+
+    @Test
+    public void interruptsAndReportsHungExecutions() throws Exception {
+        CountDownLatch neverReleased = new CountDownLatch(1);
+        Execution hung = pool.submit("hung", () -> {
+            try {
+                neverReleased.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        Execution finished = pool.submit("finished", () -> { });
+
+        TimeoutException timeout = ExecutionWatchdog.awaitExecutions("Hangs forever", asList(hung, finished), 100);
+
+        assertThat(timeout).hasMessage("Scenario 'Hangs forever' did not finish within 100 ms, 1 of 2 executions were interrupted");
+        assertThat(timeout.getStackTrace()).isNotEmpty();
+        assertThat(hung.isAlive()).isFalse();
+    }
+}
@@ -29,6 +29,7 @@ import org.junit.runner.Result;
 import org.junit.runner.notification.StoppedByUserException;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.junit.Assert.assertThat;
 
 
@@ -44,6 +45,14 @@ public class HungryMooseJUnit4TestRunnerTest {
         assertThat(result.getFailureCount(), is(1));
     }
 
+    @Test
+    public void firesTestFailureWhenOverTheLatencyBudget() {
+        HungryMooseJUnit4TestRunner runner = new HungryMooseJUnit4TestRunner(ThisTestShouldBeOverItsLatencyBudget.class);
+        Result result = runJUnit(runner);
+        assertThat(result.getFailureCount(), is(1));
+        assertThat(result.getFailures().get(0).getMessage(), startsWith("Scenario 'This test should be over its latency budget' is over its latency budget in 1 executions: p50 "));
+    }
+
     @Test
     public void throwsExceptionIfNoApplicationToTest() {
         this.expectedException.expect(IllegalArgumentException.class);
@@ -80,6 +89,30 @@ public class HungryMooseJUnit4TestRunnerTest {
         assertThat(result.getFailureCount(), is(1));
     }
 
+    @Test
+    public void runsParallelScenariosSideBySide() {
+        CountingTransport.reset(200);
+        // The spec class picks its transport, which a transport chosen for the whole build would override
+        String transport = System.clearProperty(TestContextFactory.TRANSPORT_ENVIRONMENT_KEY);
+        try {
+            Result result = runJUnit(new HungryMooseJUnit4TestRunner(ParallelScenarios.class));
+
+            assertThat(result.getFailureCount(), is(0));
+            assertThat(CountingTransport.getMaxInFlight(), is(2));
+        } finally {
+            if (transport != null) {
+                System.setProperty(TestContextFactory.TRANSPORT_ENVIRONMENT_KEY, transport);
+            }
+        }
+    }
+
+    @ApplicationToTest(RapidStubApplication.class)
+    @SpecsFromResourcePath("api/hungrymoose/parallel-spec.yaml")
+    @Parallel(2)
+    @Transport(CountingTransport.NAME)
+    public static class ParallelScenarios {
+    }
+
     @ApplicationToTest(RapidStubApplication.class)
     @SpecsFromResourcePath("api/hungrymoose/annotated-spec.yaml")
     public static class AnnotatedTest {
@@ -126,6 +159,11 @@ public class HungryMooseJUnit4TestRunnerTest {
     public static class ThisTestShouldFailOrWeHaveBiggerProblems {
     }
 
+    @ApplicationToTest(RapidStubApplication.class)
+    @SpecsFromResourcePath("api/hungrymoose/over-latency-budget-spec.yaml")
+    public static class ThisTestShouldBeOverItsLatencyBudget {
+    }
+
     @SpecsFromResourcePath("api/hungrymoose/annotated-spec.yaml")
     static class RunnerWithoutApplicationToTest {
     }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.fordlabs.hungrymoose.acceptance.RapidStubApplication;
+import com.fordlabs.hungrymoose.model.Latency;
+import com.fordlabs.hungrymoose.model.LoadStage;
+import com.fordlabs.hungrymoose.model.Request;
+import com.fordlabs.hungrymoose.model.Response;
+import com.fordlabs.hungrymoose.model.Scenario;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+public class HungryMooseTestRunnerTest {
+
+    private static final UriUnderTest SERVER_UNDER_TEST = new UriUnderTest("http", "localhost", 8080);
+
+    @Before
+    public void resetTransport() {
+        CountingTransport.reset(0);
+    }
+
+    @Test
+    public void spreadsTheExecutionsOfAScenarioAcrossEveryInstance() throws Throwable {
+        TestContext context = new TestContext(SERVER_UNDER_TEST, Object.class, new String[0], 4, "", counting().instances(2).build());
+
+        run(context, scenario("GET /instances"));
+
+        assertThat(CountingTransport.getSentByPort()).containsOnly(entry(8080, 2), entry(UriUnderTestFactory.DEFAULT_PORT, 2));
+    }
+
+    @Test
+    public void sendsEveryArrivalOfAnOpenLoopLoad() throws Throwable {
+        TestContext context = new TestContext(SERVER_UNDER_TEST, Object.class, new String[0], 1, "",
+                counting().load(new LoadProfile(200, 50, 2, true, Collections.emptyList())).build());
+
+        TestCase testCase = run(context, scenario("GET /open-loop"));
+
+        assertThat(CountingTransport.getSent()).isEqualTo(10);
+        assertThat(testCase.getStatistics().getExecutions()).isEqualTo(10);
+    }
+
+    @Test
+    public void keepsAClosedLoopLoadToItsTargetRate() throws Throwable {
+        TestContext context = new TestContext(SERVER_UNDER_TEST, Object.class, new String[0], 1, "",
+                counting().load(new LoadProfile(200, 50, 2, false, Collections.emptyList())).build());
+
+        run(context, scenario("GET /closed-loop"));
+
+        assertThat(CountingTransport.getSent()).isBetween(1, 10);
+    }
+
+    @Test
+    public void runsTheExecutionsOfEveryLoadStage() throws Throwable {
+        LoadStage steady = new LoadStage("steady", 100, null, 100.0, 2);
+        LoadStage faster = new LoadStage("faster", 100, null, 200.0, 2);
+        TestContext context = new TestContext(SERVER_UNDER_TEST, Object.class, new String[0], 1, "",
+                counting().load(new LoadProfile(0, 0, 0, true, Arrays.asList(steady, faster))).build());
+
+        TestCase testCase = run(context, scenario("GET /stages"));
+
+        assertThat(CountingTransport.getSent()).isEqualTo(30);
+        assertThat(testCase.getStatistics().getExecutions()).isEqualTo(30);
+    }
+
+    @Test
+    public void failsScenariosOverTheirLatencyBudget() {
+        CountingTransport.reset(50);
+        TestContext context = new TestContext(SERVER_UNDER_TEST, Object.class, new String[0], 2, "", counting().build());
+        Scenario slow = withMaxLatency("slow", "GET /slow", Latency.ofMillis(10));
+
+        assertThatThrownBy(() -> run(context, slow))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("Scenario 'slow' is over its latency budget in 2 executions: max ");
+    }
+
+    @Test
+    public void passesScenariosWithinTheirLatencyBudget() throws Throwable {
+        TestContext context = new TestContext(SERVER_UNDER_TEST, Object.class, new String[0], 2, "", counting().build());
+
+        run(context, withMaxLatency("fast", "GET /fast", Latency.ofMillis(5_000)));
+
+        assertThat(CountingTransport.getSent()).isEqualTo(2);
+    }
+
+    @Test
+    public void reachesTheApplicationInProcessWithoutAWebServer() throws Throwable {
+        // Nothing listens on this port, only a request dispatched in-process gets an answer
+        UriUnderTest unbound = new UriUnderTest("http", "localhost", 1);
+        TestContext context = new TestContext(unbound, RapidStubApplication.class, new String[0], 1, "",
+                TestContextOptions.builder().transport(Transport.IN_PROCESS).build());
+        Scenario validJson = new Scenario("valid json", Request.from("GET /rapid-stub/valid-json\n"),
+                Response.from("200 OK\nContent-Type: application/json\n\n{\"data\":\"bar\"}"));
+
+        context.runApplication();
+        TestCase testCase = run(context, validJson);
+
+        assertThat(testCase.getStatistics().getExecutions()).isEqualTo(1);
+    }
+
+    private static TestContextOptions.TestContextOptionsBuilder counting() {
+        return TestContextOptions.builder().transport(CountingTransport.NAME);
+    }
+
+    private static Scenario scenario(final String request) {
+        return new Scenario(request, Request.from(request + "\n"), Response.from("200 OK\n\n\n"));
+    }
+
+    private static Scenario withMaxLatency(final String name, final String request, final Latency maxLatency) {
+        return Scenario.builder().name(name).request(Request.from(request + "\n")).response(Response.from("200 OK\n\n\n")).maxLatency(maxLatency).build();
+    }
+
+    private static TestCase run(final TestContext context, final Scenario scenario) throws Throwable {
+        TestCase testCase = new TestCase(scenario, context.getRequestClient(), HungryMooseTestRunnerTest.class);
+        try (HungryMooseTestRunner testRunner = new HungryMooseTestRunner(context, Collections.singletonList(testCase))) {
+            testRunner.runTestCase(testCase);
+        }
+        return testCase;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.model.Latency;
+import com.fordlabs.hungrymoose.model.Scenario;
+import org.HdrHistogram.Histogram;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyBudgetTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void passesWithinBudget() {
+        LatencyBudget budget = LatencyBudget.of(scenario(Latency.ofMillis(150), percentiles("p99", Latency.ofMillis(100))));
+
+        assertThat(budget.toFailure("GET Valid JSON", latencies(40, 100))).isNull();
+    }
+
+    @Test
+    public void failsOnPercentilesOverBudget() {
+        LatencyBudget budget = LatencyBudget.of(scenario(null, percentiles("p50", Latency.ofMillis(10), "p99.9", Latency.ofMillis(80))));
+
+        AssertionError failure = budget.toFailure("GET Valid JSON", latencies(8, 90));
+
+        assertThat(failure).hasMessage("Scenario 'GET Valid JSON' is over its latency budget in 100 executions: p99.9 90.05 ms over 80.00 ms");
+    }
+
+    @Test
+    public void failsASingleExecutionOverTheMaximum() {
+        LatencyBudget budget = LatencyBudget.of(scenario(Latency.ofMillis(150), null));
+        Histogram latencies = ExecutionLatencies.newHistogram();
+        latencies.recordValue(TimeUnit.MILLISECONDS.toNanos(151));
+
+        assertThat(budget.toFailure("GET Valid JSON", latencies)).hasMessage("Scenario 'GET Valid JSON' is over its latency budget in 1 executions: max 151.13 ms over 150.00 ms");
+    }
+
+    @Test
+    public void hasNoBudgetWithoutLatencies() {
+        assertThat(LatencyBudget.of(scenario(null, null)).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void rejectsUnknownPercentiles() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Latency percentiles are written like p99 or p99.9, not '99th'");
+
+        LatencyBudget.of(scenario(null, percentiles("99th", Latency.ofMillis(80))));
+    }
+
+    @Test
+    public void rejectsBudgetsBeyondTheRecordedLatencies() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Latency budgets are between 0 and 60000 ms, maxLatency is 120000.00 ms");
+
+        LatencyBudget.of(scenario(Latency.from("120s"), null));
+    }
+
+    private static Histogram latencies(final long typicalMillis, final long slowestMillis) {
+        Histogram latencies = ExecutionLatencies.newHistogram();
+        latencies.recordValueWithCount(TimeUnit.MILLISECONDS.toNanos(typicalMillis), 99);
+        latencies.recordValue(TimeUnit.MILLISECONDS.toNanos(slowestMillis));
+        return latencies;
+    }
+
+    private static Map<String, Latency> percentiles(final Object... keysAndLatencies) {
+        Map<String, Latency> percentiles = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndLatencies.length; i += 2) {
+            percentiles.put((String) keysAndLatencies[i], (Latency) keysAndLatencies[i + 1]);
+        }
+        return percentiles;
+    }
+
+    private static Scenario scenario(final Latency maxLatency, final Map<String, Latency> percentiles) {
+        return Scenario.builder().name("GET Valid JSON").maxLatency(maxLatency).latency(percentiles).build();
+    }
+}
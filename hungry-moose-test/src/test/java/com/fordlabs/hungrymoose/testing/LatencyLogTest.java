@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LatencyLogTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void writesOneTaggedIntervalPerScenario() throws Exception {
+        File file = temporaryFolder.newFile("latencies.hlog");
+        Histogram latencies = ExecutionLatencies.newHistogram();
+        latencies.recordValue(TimeUnit.MILLISECONDS.toNanos(3));
+        latencies.recordValue(TimeUnit.MILLISECONDS.toNanos(5));
+
+        LatencyLog log = LatencyLog.open(file);
+        log.write("GET Valid JSON", 1_000, 2_000, latencies);
+        log.close();
+
+        HistogramLogReader reader = new HistogramLogReader(file);
+        Histogram interval = (Histogram) reader.nextIntervalHistogram();
+        assertThat(interval.getTag()).isEqualTo("GET_Valid_JSON");
+        assertThat(interval.getTotalCount()).isEqualTo(2);
+        assertThat(interval.getMaxValue()).isEqualTo(latencies.getMaxValue());
+        assertThat(reader.nextIntervalHistogram()).isNull();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PacerTest {
+
+    @Test
+    public void spacesSlotsToTheTargetRate() {
+        long start = System.nanoTime();
+        Pacer pacer = new Pacer(start, TimeUnit.MILLISECONDS.toNanos(200), 100);
+
+        int slots = 0;
+        while (pacer.awaitNextSlot()) {
+            slots++;
+        }
+
+        assertThat(slots).isEqualTo(20);
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190));
+    }
+
+    @Test
+    public void doesNotBurstToCatchUpAfterASlowExecution() throws Exception {
+        long start = System.nanoTime();
+        Pacer pacer = new Pacer(start, TimeUnit.MILLISECONDS.toNanos(300), 100);
+
+        assertThat(pacer.awaitNextSlot()).isTrue();
+        Thread.sleep(100);
+        long afterSlowExecution = System.nanoTime();
+        assertThat(pacer.awaitNextSlot()).isTrue();
+        assertThat(pacer.awaitNextSlot()).isTrue();
+
+        assertThat(System.nanoTime() - afterSlowExecution).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(9));
+    }
+
+    @Test
+    public void runsUnpacedUntilTheEndOfTheDuration() {
+        Pacer pacer = new Pacer(System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(20), 0);
+
+        int slots = 0;
+        while (pacer.awaitNextSlot()) {
+            slots++;
+        }
+
+        assertThat(slots).isGreaterThan(20);
+    }
+
+    @Test
+    public void returnsTheIntendedTimesOfTheArrivalSchedule() {
+        long start = System.nanoTime();
+        Pacer pacer = new Pacer(start, TimeUnit.MILLISECONDS.toNanos(50), 100);
+
+        List<Long> arrivals = new ArrayList<>();
+        long arrival;
+        while ((arrival = pacer.awaitNextArrival()) != Pacer.FINISHED) {
+            arrivals.add(arrival - start);
+        }
+
+        assertThat(arrivals).containsExactly(0L, 10_000_000L, 20_000_000L, 30_000_000L, 40_000_000L);
+    }
+
+    @Test
+    public void sendsMissedArrivalsLateInsteadOfSkippingThem() throws Exception {
+        long start = System.nanoTime();
+        Pacer pacer = new Pacer(start, TimeUnit.MILLISECONDS.toNanos(300), 100);
+
+        assertThat(pacer.awaitNextArrival()).isEqualTo(start);
+        Thread.sleep(100);
+        long afterSlowExecution = System.nanoTime();
+        long late = pacer.awaitNextArrival();
+
+        assertThat(late).isEqualTo(start + TimeUnit.MILLISECONDS.toNanos(10));
+        assertThat(afterSlowExecution - late).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+    }
+
+    @Test
+    public void rampsTheRateOverTheDuration() {
+        long start = System.nanoTime();
+        Pacer pacer = new Pacer(start, TimeUnit.MILLISECONDS.toNanos(200), 0, 200);
+
+        List<Long> arrivals = new ArrayList<>();
+        long arrival;
+        while ((arrival = pacer.awaitNextArrival()) != Pacer.FINISHED) {
+            arrivals.add(arrival - start);
+        }
+
+        assertThat(arrivals).hasSize(20);
+        assertThat(arrivals.get(1) - arrivals.get(0)).isGreaterThan(arrivals.get(19) - arrivals.get(18));
+        assertThat(arrivals.get(1)).isEqualTo(44_721_360L);
+    }
+}
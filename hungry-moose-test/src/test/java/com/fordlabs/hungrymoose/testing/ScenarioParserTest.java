@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.model.Latency;
+import com.fordlabs.hungrymoose.model.LoadStage;
+import com.fordlabs.hungrymoose.model.Scenario;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+public class ScenarioParserTest {
+
+    @Test
+    public void leavesTheLoadDocumentOutOfTheScenarios() {
+        List<Scenario> scenarios = ScenarioParser.parse(ScenarioParserTest.class, "api/hungrymoose/staged-load-spec.yaml");
+
+        assertThat(scenarios).extracting(Scenario::getName).containsExactly("GET Valid JSON");
+    }
+
+    @Test
+    public void readsTheLoadStagesInOrder() {
+        List<LoadStage> stages = ScenarioParser.parseLoadStages(ScenarioParserTest.class, "api/hungrymoose/staged-load-spec.yaml");
+
+        assertThat(stages).containsExactly(
+                new LoadStage("ramp up", 200, 10.0, 50.0, null),
+                new LoadStage("hold", 200, null, 50.0, null),
+                new LoadStage("spike", 100, null, 200.0, 4));
+    }
+
+    @Test
+    public void hasNoLoadStagesWithoutALoadDocument() {
+        assertThat(ScenarioParser.parseLoadStages(ScenarioParserTest.class, "api/hungrymoose/spec.yaml")).isEmpty();
+    }
+
+    @Test
+    public void readsTheLatencyBudgetsOfScenarios() {
+        List<Scenario> scenarios = ScenarioParser.parse(ScenarioParserTest.class, "api/hungrymoose/latency-budget-spec.yaml");
+
+        assertThat(scenarios.get(0).getMaxLatency()).isEqualTo(Latency.from("5s"));
+        assertThat(scenarios.get(0).getLatency()).containsExactly(entry("p95", Latency.from("2s")), entry("p99.9", Latency.ofMillis(3000)));
+        assertThat(scenarios.get(1).getMaxLatency()).isEqualTo(Latency.ofMillis(5000));
+        assertThat(scenarios.get(1).getLatency()).isNull();
+    }
+
+    @Test
+    public void rejectsAMalformedLatencyPercentile() {
+        assertThatThrownBy(() -> ScenarioParser.parse(ScenarioParserTest.class, "api/hungrymoose/invalid-latency-budget-spec.yaml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Latency percentiles are written like p99 or p99.9, not 'p95x'");
+    }
+}
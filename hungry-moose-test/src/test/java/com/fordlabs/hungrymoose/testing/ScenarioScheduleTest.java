@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.model.Scenario;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScenarioScheduleTest {
+
+    @Test
+    public void letsUngroupedScenariosRunInAnyOrder() {
+        ScenarioSchedule schedule = ScenarioSchedule.of(asList(scenario(null, null), scenario(null, true)));
+
+        assertThat(schedule.isConstrained()).isFalse();
+        assertThat(schedule.getPrerequisites(0)).isEmpty();
+        assertThat(schedule.getPrerequisites(1)).isEmpty();
+    }
+
+    @Test
+    public void runsScenariosOfAGroupInFileOrder() {
+        ScenarioSchedule schedule = ScenarioSchedule.of(asList(
+                scenario("orders", null),
+                scenario(null, null),
+                scenario("orders", null),
+                scenario("users", null),
+                scenario("orders", null)));
+
+        assertThat(schedule.isConstrained()).isTrue();
+        assertThat(schedule.getPrerequisites(0)).isEmpty();
+        assertThat(schedule.getPrerequisites(1)).isEmpty();
+        assertThat(schedule.getPrerequisites(2)).containsExactly(0);
+        assertThat(schedule.getPrerequisites(3)).isEmpty();
+        assertThat(schedule.getPrerequisites(4)).containsExactly(2);
+    }
+
+    @Test
+    public void runsScenariosThatAreNotParallelAlone() {
+        ScenarioSchedule schedule = ScenarioSchedule.of(asList(
+                scenario("orders", null),
+                scenario(null, null),
+                scenario(null, false),
+                scenario(null, null),
+                scenario("orders", null)));
+
+        assertThat(schedule.isConstrained()).isTrue();
+        assertThat(schedule.getPrerequisites(2)).containsExactly(0, 1);
+        assertThat(schedule.getPrerequisites(3)).containsExactly(2);
+        assertThat(schedule.getPrerequisites(4)).containsExactly(2);
+    }
+
+    @Test
+    public void readsGroupsFromTheSpecFile() {
+        ScenarioSchedule schedule = ScenarioSchedule.of(ScenarioParser.parse(ScenarioScheduleTest.class, "api/hungrymoose/spec.yaml"));
+
+        assertThat(schedule.isConstrained()).isTrue();
+        assertThat(schedule.getPrerequisites(7)).containsExactly(6);
+    }
+
+    private static Scenario scenario(String group, Boolean parallel) {
+        return Scenario.builder().group(group).parallel(parallel).build();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.model.Scenario;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ShardTest {
+
+    private static final String SPEC = "api/spec.yaml";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void splitsScenariosAcrossShardsExactlyOnce() {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            scenarios.add(new Scenario("Scenario " + i, null, null));
+        }
+
+        List<Scenario> selected = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            List<Scenario> slice = new Shard(index, 3, Collections.emptyMap()).select(SPEC, scenarios);
+            assertThat(slice).isNotEmpty();
+            selected.addAll(slice);
+        }
+
+        assertThat(selected).hasSize(100).containsExactlyInAnyOrderElementsOf(scenarios);
+    }
+
+    @Test
+    public void assignsTheSameScenarioToTheSameShardEveryTime() {
+        Scenario scenario = new Scenario("GET Valid JSON", null, null);
+
+        assertThat(new Shard(1, 4, Collections.emptyMap()).includes(SPEC, scenario))
+                .isEqualTo(new Shard(1, 4, Collections.emptyMap()).includes(SPEC, scenario));
+    }
+
+    @Test
+    public void keepsAGroupOnOneShard() {
+        List<Scenario> group = asList(
+                Scenario.builder().name("Create").group("orders").build(),
+                Scenario.builder().name("Delete").group("orders").build(),
+                Scenario.builder().name("Read").group("orders").build());
+
+        List<Integer> sizes = new ArrayList<>();
+        for (int index = 0; index < 4; index++) {
+            sizes.add(new Shard(index, 4, Collections.emptyMap()).select(SPEC, group).size());
+        }
+
+        assertThat(sizes).containsOnly(0, 3).containsOnlyOnce(3);
+    }
+
+    @Test
+    public void balancesRecordedDurationsAcrossShards() {
+        Map<String, Long> durations = new HashMap<>();
+        durations.put(SPEC + "#Slow", 900L);
+        durations.put(SPEC + "#Medium", 500L);
+        durations.put(SPEC + "#Quick", 400L);
+        List<Scenario> scenarios = asList(new Scenario("Slow", null, null), new Scenario("Medium", null, null), new Scenario("Quick", null, null));
+
+        assertThat(new Shard(0, 2, durations).select(SPEC, scenarios)).extracting(Scenario::getName).containsExactly("Slow");
+        assertThat(new Shard(1, 2, durations).select(SPEC, scenarios)).extracting(Scenario::getName).containsExactly("Medium", "Quick");
+    }
+
+    @Test
+    public void readsTheLastRecordedDurationOfEachScenario() throws Exception {
+        Path file = folder.newFile("durations.tsv").toPath();
+        Files.write(file, asList(
+                "100\tapi/spec.yaml#Slow\tSlow",
+                "300\tapi/spec.yaml#Slow\tSlow",
+                "20\tapi/spec.yaml#group:orders\tCreate",
+                "30\tapi/spec.yaml#group:orders\tDelete"), StandardCharsets.UTF_8);
+
+        Map<String, Long> durations = Shard.readDurations(file);
+
+        assertThat(durations).containsEntry(SPEC + "#Slow", 300L).containsEntry(SPEC + "#group:orders", 50L);
+    }
+
+    @Test
+    public void rejectsAnIndexOutsideTheShardCount() {
+        assertThatThrownBy(() -> new Shard(2, 2, Collections.emptyMap()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("hungrymoose.shard.index must be between 0 and 1 but was 2");
+    }
+}
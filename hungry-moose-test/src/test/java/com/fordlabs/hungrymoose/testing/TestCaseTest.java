@@ -17,8 +17,15 @@
 
 package com.fordlabs.hungrymoose.testing;
 
+import com.fordlabs.hungrymoose.model.Request;
 import com.fordlabs.hungrymoose.model.Response;
 import com.fordlabs.hungrymoose.model.Scenario;
+import com.fordlabs.hungrymoose.requestbuilder.InFlightLimiter;
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.requestbuilder.RequestClient;
+import com.fordlabs.hungrymoose.transport.HttpTransport;
+import com.fordlabs.hungrymoose.transport.Timeouts;
+import com.fordlabs.hungrymoose.transport.TransportResponse;
 import com.fordlabs.hungrymoose.validator.body.json.JsonResponseValidator;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
@@ -32,8 +39,12 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -138,6 +149,36 @@ public class TestCaseTest {
         assertThat(testCase.toString()).isEqualTo("Test Name");
     }
 
+    @Test
+    public void onlyTheFirstExecutionOfAScenarioSharesAMemoizedResponse() throws Exception {
+        AtomicInteger sent = new AtomicInteger();
+        RequestClient requestClient = new RequestClient(() -> Collections.singletonList(new UriUnderTest("http", "localhost", 8080)),
+                Timeouts.none(), InFlightLimiter.unlimited(), true, () -> countingTransport(sent));
+        TestCase repeated = new TestCase(new Scenario("repeated", Request.from("GET /same\n"), buildResponse("", "")), requestClient, null);
+        TestCase other = new TestCase(new Scenario("other", Request.from("GET /same\n"), buildResponse("", "")), requestClient, null);
+
+        for (int i = 0; i < 3; i++) {
+            repeated.runTest();
+        }
+        other.runTest();
+
+        assertThat(sent).hasValue(3);
+    }
+
+    private static HttpTransport countingTransport(final AtomicInteger sent) {
+        return new HttpTransport() {
+            @Override
+            public TransportResponse send(final PreparedRequest request) {
+                sent.incrementAndGet();
+                return new TransportResponse(200, new HttpHeaders(), "");
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
     private HttpResponse makeResponseEntityWithNullContentType() {
         final HttpResponse httpResponse = mock(HttpResponse.class);
         final HttpEntity entity = Mockito.mock(HttpEntity.class);
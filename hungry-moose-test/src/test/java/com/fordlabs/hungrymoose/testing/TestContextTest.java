@@ -17,10 +17,18 @@
 
 package com.fordlabs.hungrymoose.testing;
 
+import com.fordlabs.fordlabs.hungrymoose.acceptance.RapidStubApplication;
+import com.fordlabs.hungrymoose.model.LoadStage;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
 public class TestContextTest {
 
     @Rule
@@ -61,4 +69,109 @@ public class TestContextTest {
         new TestContext(new UriUnderTest("http", "host", 0), String.class, new String[0], 1, null);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void cannotCreateTestableApplicationWithLessThanOneInstance() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Instances should be a positive number");
+        new TestContext(new UriUnderTest("http", "host", 0), String.class, new String[0], 1, "", TestContextOptions.builder().instances(0).build());
+    }
+
+    @Test
+    public void letsAdditionalInstancesBindAnyFreePort() {
+        TestContext context = new TestContext(new UriUnderTest("http", "host", 8080), String.class, new String[0], 1, "", TestContextOptions.builder().instances(3).build());
+
+        assertThat(context.getApplicationUris()).hasSize(3);
+        assertThat(context.getApplicationUris().get(0)).isSameAs(context.getApplicationUri());
+        assertThat(context.getApplicationUris()).extracting(UriUnderTest::getHost).containsOnly("host");
+        assertThat(context.getApplicationUris()).extracting(UriUnderTest::getPort).containsExactly(8080, UriUnderTestFactory.DEFAULT_PORT, UriUnderTestFactory.DEFAULT_PORT);
+    }
+
+    @Test
+    public void needsNoApplicationForAnExternalTarget() {
+        TestContext context = new TestContext(new UriUnderTest("http", "container", 8080), null, new String[0], 1, "", TestContextOptions.builder().instances(2).externalTarget(true).build());
+
+        context.runApplication();
+
+        assertThat(context.isExternalTarget()).isTrue();
+        assertThat(context.getApplicationUris()).extracting(UriUnderTest::toString).containsExactly("http://container:8080");
+    }
+
+    @Test
+    public void cannotTargetAnExternalApplicationWithoutItsPort() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("An external target needs its port set with target.port");
+        new TestContext(new UriUnderTest("http", "container", UriUnderTestFactory.DEFAULT_PORT), null, new String[0], 1, "", TestContextOptions.builder().externalTarget(true).build());
+    }
+
+    @Test
+    public void cannotTargetAnExternalApplicationInProcess() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("The in-process transport can't reach an external target");
+        new TestContext(new UriUnderTest("http", "container", 8080), null, new String[0], 1, "", TestContextOptions.builder().transport(Transport.IN_PROCESS).externalTarget(true).build());
+    }
+
+    @Test
+    public void cannotRunAnOpenLoopLoadWithoutATargetRate() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("An open loop load needs a target rate");
+        new TestContext(new UriUnderTest("http", "host", 8080), Object.class, new String[0], 1, "", TestContextOptions.builder().load(new LoadProfile(1000, 0, 2, true, Collections.emptyList())).build());
+    }
+
+    @Test
+    public void cannotRunAnOpenLoopLoadStageWithoutATargetRate() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("An open loop load needs a target rate in every stage");
+        List<LoadStage> stages = Arrays.asList(new LoadStage("ramp", 1000, 10.0, 100.0, null), new LoadStage("flat out", 1000, null, null, 8));
+        new TestContext(new UriUnderTest("http", "host", 8080), Object.class, new String[0], 1, "", TestContextOptions.builder().load(new LoadProfile(0, 0, 0, true, stages)).build());
+    }
+
+    @Test
+    public void sizesForTheMostConcurrentLoadStage() {
+        List<LoadStage> stages = Arrays.asList(new LoadStage("ramp", 1000, 10.0, 100.0, null), new LoadStage("spike", 1000, null, 500.0, 8));
+        TestContext context = new TestContext(new UriUnderTest("http", "host", 8080), Object.class, new String[0], 2, "", TestContextOptions.builder().load(new LoadProfile(0, 0, 0, false, stages)).build());
+
+        assertThat(context.getConcurrency()).isEqualTo(2);
+        assertThat(context.getMaxConcurrency()).isEqualTo(8);
+    }
+
+    @Test
+    public void ignoresTheLoadStagesOfTheSpecFileWithoutLoad() {
+        TestContext context = TestContextFactory.build(StagedSpec.class);
+
+        assertThat(context.getLoad().isEnabled()).isFalse();
+        assertThat(context.getLoad().getStages()).isEmpty();
+    }
+
+    @Test
+    public void runsTheLoadStagesOfTheSpecFileUnderLoad() {
+        TestContext context = TestContextFactory.build(StagedSpecUnderLoad.class);
+
+        assertThat(context.getLoad().getDurationMillis()).isZero();
+        assertThat(context.getLoad().getStages()).extracting(LoadStage::getName).containsExactly("ramp up", "hold", "spike");
+    }
+
+    @Test
+    public void cannotLoadTestWithoutADurationOrStages() {
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("@Load needs a duration, or stages = true to run the load stages of the spec file");
+        TestContextFactory.build(StagedSpecWithoutDurationOrStages.class);
+    }
+
+    @ApplicationToTest(RapidStubApplication.class)
+    @SpecsFromResourcePath("api/hungrymoose/staged-load-spec.yaml")
+    public static class StagedSpec {
+    }
+
+    @ApplicationToTest(RapidStubApplication.class)
+    @SpecsFromResourcePath("api/hungrymoose/staged-load-spec.yaml")
+    @Load(stages = true)
+    public static class StagedSpecUnderLoad {
+    }
+
+    @ApplicationToTest(RapidStubApplication.class)
+    @SpecsFromResourcePath("api/hungrymoose/staged-load-spec.yaml")
+    @Load
+    public static class StagedSpecWithoutDurationOrStages {
+    }
+
+}
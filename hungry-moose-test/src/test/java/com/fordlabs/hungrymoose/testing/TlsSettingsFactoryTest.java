@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.testing;
+
+import com.fordlabs.hungrymoose.transport.TlsSettings;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.net.ssl.SSLContext;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class TlsSettingsFactoryTest {
+
+    @Before
+    @After
+    public void cleanUp() {
+        System.clearProperty(TlsSettingsFactory.TRUST_STORE_ENVIRONMENT_KEY);
+        System.clearProperty(TlsSettingsFactory.TRUST_ALL_ENVIRONMENT_KEY);
+        System.clearProperty(TlsSettingsFactory.SESSION_CACHE_SIZE_ENVIRONMENT_KEY);
+    }
+
+    @Test
+    public void uses_the_jvm_default_for_http_targets() throws Exception {
+        TlsSettings tlsSettings = TlsSettingsFactory.getTlsSettings(new UriUnderTest("http", "localhost", 8080));
+
+        assertThat(tlsSettings.getSslContext(), sameInstance(SSLContext.getDefault()));
+        assertThat(tlsSettings.isVerifyHostname(), equalTo(true));
+    }
+
+    @Test
+    public void builds_a_dedicated_context_for_https_targets() throws Exception {
+        System.setProperty(TlsSettingsFactory.SESSION_CACHE_SIZE_ENVIRONMENT_KEY, "42");
+
+        TlsSettings tlsSettings = TlsSettingsFactory.getTlsSettings(new UriUnderTest("https", "localhost", 8443));
+
+        assertThat(tlsSettings.getSslContext(), not(sameInstance(SSLContext.getDefault())));
+        assertThat(tlsSettings.getSslContext().getClientSessionContext().getSessionCacheSize(), equalTo(42));
+        assertThat(tlsSettings.isVerifyHostname(), equalTo(true));
+    }
+
+    @Test
+    public void trust_all_skips_host_name_verification() {
+        System.setProperty(TlsSettingsFactory.TRUST_ALL_ENVIRONMENT_KEY, "true");
+
+        TlsSettings tlsSettings = TlsSettingsFactory.getTlsSettings(new UriUnderTest("https", "localhost", 8443));
+
+        assertThat(tlsSettings.isVerifyHostname(), equalTo(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throws_exception_when_trust_store_is_missing() {
+        System.setProperty(TlsSettingsFactory.TRUST_STORE_ENVIRONMENT_KEY, "does/not/exist.p12");
+        TlsSettingsFactory.getTlsSettings(new UriUnderTest("https", "localhost", 8443));
+    }
+}
@@ -23,7 +23,6 @@ import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.not;
 
 public class UriUnderTestFactoryTest {
 
@@ -53,7 +52,7 @@ public class UriUnderTestFactoryTest {
         UriUnderTest uri = UriUnderTestFactory.getUriUnderTest();
 
         assertThat(uri.getHost(), equalTo("localhost"));
-        assertThat(uri.getPort(), not(0));
+        assertThat(uri.getPort(), equalTo(UriUnderTestFactory.DEFAULT_PORT));
         assertThat(uri.getTransferProtocol(), equalTo("http"));
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Http1ResponseParserTest {
+
+    private final Http1ResponseParser parser = new Http1ResponseParser();
+
+    @Test
+    public void parsesResponseWithContentLength() {
+        boolean complete = this.parser.parse(bytes("HTTP/1.1 200 OK\r\nContent-Type: application/json\r\nContent-Length: 14\r\n\r\n{\"data\":\"bar\"}"));
+
+        assertThat(complete).isTrue();
+        TransportResponse response = this.parser.toResponse();
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getBody()).isEqualTo("{\"data\":\"bar\"}");
+        assertThat(this.parser.isKeepAlive()).isTrue();
+    }
+
+    @Test
+    public void parsesChunkedResponseSplitAcrossReads() {
+        String raw = "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n4\r\nWiki\r\n6;ext=1\r\npedia \r\n0\r\n\r\n";
+
+        for (int i = 0; i < raw.length() - 1; i++) {
+            assertThat(this.parser.parse(bytes(raw.substring(i, i + 1)))).isFalse();
+        }
+        assertThat(this.parser.parse(bytes(raw.substring(raw.length() - 1)))).isTrue();
+        assertThat(this.parser.toResponse().getBody()).isEqualTo("Wikipedia ");
+    }
+
+    @Test
+    public void readsBodyUntilCloseWhenNoLengthIsGiven() {
+        assertThat(this.parser.parse(bytes("HTTP/1.0 409 Conflict\r\n\r\nsome body"))).isFalse();
+
+        assertThat(this.parser.endOfStream()).isTrue();
+        assertThat(this.parser.isKeepAlive()).isFalse();
+        assertThat(this.parser.toResponse().getStatusCode()).isEqualTo(409);
+        assertThat(this.parser.toResponse().getBody()).isEqualTo("some body");
+    }
+
+    @Test
+    public void honoursConnectionCloseAndSkipsInterimResponses() {
+        boolean complete = this.parser.parse(bytes("HTTP/1.1 100 Continue\r\n\r\nHTTP/1.1 204 No Content\r\nConnection: close\r\n\r\n"));
+
+        assertThat(complete).isTrue();
+        assertThat(this.parser.toResponse().getStatusCode()).isEqualTo(204);
+        assertThat(this.parser.isKeepAlive()).isFalse();
+    }
+
+    @Test
+    public void canBeReusedAfterReset() {
+        this.parser.parse(bytes("HTTP/1.1 200 OK\r\nContent-Length: 3\r\n\r\nabc"));
+        this.parser.reset();
+
+        assertThat(this.parser.parse(bytes("HTTP/1.1 201 Created\r\nContent-Length: 1\r\n\r\nd"))).isTrue();
+        assertThat(this.parser.toResponse().getStatusCode()).isEqualTo(201);
+        assertThat(this.parser.toResponse().getBody()).isEqualTo("d");
+        assertThat(this.parser.toResponse().getHeaders().getContentLength()).isEqualTo(1);
+    }
+
+    private static ByteBuffer bytes(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.model.Request;
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.testing.TlsSettingsFactory;
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStore;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JdkHttpTransportTest {
+
+    private HttpServer server;
+    private UriUnderTest serverUnderTest;
+
+    @Before
+    public void startServer() throws Exception {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/echo", exchange -> {
+            final byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        this.server.start();
+        this.serverUnderTest = new UriUnderTest("http", "localhost", this.server.getAddress().getPort());
+    }
+
+    @After
+    public void stopServer() {
+        this.server.stop(0);
+    }
+
+    @Test
+    public void sendsRequestsWithTimeoutsDisabled() throws Exception {
+        Timeouts disabled = new Timeouts(0, 0, 0);
+        JdkHttpTransport transport = new JdkHttpTransport(new TransportSettings(this.serverUnderTest, 1, null, TlsSettings.jvmDefault(), disabled));
+
+        TransportResponse response = transport.send(PreparedRequest.compile(this.serverUnderTest, Request.from("GET /echo\n\n"), disabled));
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo("pong");
+    }
+
+    @Test
+    public void sendsHttp2RequestsWithTimeoutsDisabled() throws Exception {
+        Timeouts disabled = new Timeouts(0, 0, 0);
+        Http2Transport transport = new Http2Transport(new TransportSettings(this.serverUnderTest, 1, null, TlsSettings.jvmDefault(), disabled));
+
+        TransportResponse response = transport.send(PreparedRequest.compile(this.serverUnderTest, Request.from("GET /echo\n\n"), disabled));
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+    }
+
+    @Test
+    public void trustAllSkipsHostNameVerification() throws Exception {
+        HttpsServer httpsServer = startServerWithMismatchedCertificate();
+        System.setProperty(TlsSettingsFactory.TRUST_ALL_ENVIRONMENT_KEY, "true");
+        try {
+            UriUnderTest mismatchedHost = new UriUnderTest("https", "localhost", httpsServer.getAddress().getPort());
+            Timeouts timeouts = new Timeouts(1000, 1000, 0);
+            TransportSettings settings = new TransportSettings(mismatchedHost, 1, null, TlsSettingsFactory.getTlsSettings(mismatchedHost), timeouts);
+
+            for (HttpTransport transport : List.of(new JdkHttpTransport(settings), new Http2Transport(settings))) {
+                TransportResponse response = transport.send(PreparedRequest.compile(mismatchedHost, Request.from("GET /echo\n\n"), timeouts));
+
+                assertThat(response.getStatusCode()).isEqualTo(200);
+            }
+        } finally {
+            System.clearProperty(TlsSettingsFactory.TRUST_ALL_ENVIRONMENT_KEY);
+            httpsServer.stop(0);
+        }
+    }
+
+    /**
+     * The certificate is issued to hungry-moose.invalid, so every request to localhost fails host name verification.
+     */
+    private static HttpsServer startServerWithMismatchedCertificate() throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+        try (InputStream keyStoreStream = JdkHttpTransportTest.class.getClassLoader().getResourceAsStream("mismatched-host.p12")) {
+            keyStore.load(keyStoreStream, "changeit".toCharArray());
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, "changeit".toCharArray());
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+
+        HttpsServer httpsServer = HttpsServer.create(new InetSocketAddress("localhost", 0), 0);
+        httpsServer.setHttpsConfigurator(new HttpsConfigurator(sslContext));
+        httpsServer.createContext("/echo", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        httpsServer.start();
+        return httpsServer;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2021 Ford Motor Company
+ * All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.fordlabs.hungrymoose.transport;
+
+import com.fordlabs.hungrymoose.model.Request;
+import com.fordlabs.hungrymoose.requestbuilder.PreparedRequest;
+import com.fordlabs.hungrymoose.testing.UriUnderTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NioHttpTransportTest {
+
+    private final AtomicInteger accepted = new AtomicInteger();
+    private volatile boolean closeWhenIdle;
+    private ServerSocket server;
+    private NioHttpTransport transport;
+    private PreparedRequest request;
+
+    @Before
+    public void startServer() throws Exception {
+        this.server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        final Thread acceptor = new Thread(this::accept, "keep-alive-server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        final UriUnderTest serverUnderTest = new UriUnderTest("http", "localhost", this.server.getLocalPort());
+        final Timeouts timeouts = new Timeouts(1000, 1000, 0);
+        this.transport = new NioHttpTransport(new TransportSettings(serverUnderTest, 1, null, TlsSettings.jvmDefault(), timeouts));
+        this.request = PreparedRequest.compile(serverUnderTest, Request.from("GET /echo\n\n"), timeouts);
+    }
+
+    @After
+    public void stopServer() throws Exception {
+        this.transport.close();
+        this.server.close();
+    }
+
+    @Test
+    public void evictsIdleConnectionsTheServerClosed() throws Exception {
+        this.closeWhenIdle = true;
+
+        assertThat(this.transport.send(this.request).getStatusCode()).isEqualTo(200);
+        Thread.sleep(200);
+        TransportResponse response = this.transport.send(this.request);
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(this.accepted).hasValue(2);
+    }
+
+    @Test
+    public void retriesOnAFreshConnectionWhenTheServerClosesAReusedOne() throws Exception {
+        assertThat(this.transport.send(this.request).getStatusCode()).isEqualTo(200);
+        TransportResponse response = this.transport.send(this.request);
+
+        assertThat(response.getStatusCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo("pong");
+        assertThat(this.accepted).hasValue(2);
+    }
+
+    /**
+     * Answers one request per connection with keep-alive, then closes it either right away or once the next request arrives.
+     */
+    private void accept() {
+        while (!this.server.isClosed()) {
+            try (Socket socket = this.server.accept()) {
+                this.accepted.incrementAndGet();
+                final InputStream in = socket.getInputStream();
+                readRequest(in);
+                socket.getOutputStream().write("HTTP/1.1 200 OK\r\nContent-Length: 4\r\n\r\npong".getBytes(StandardCharsets.US_ASCII));
+                socket.getOutputStream().flush();
+                if (!this.closeWhenIdle) {
+                    readRequest(in);
+                }
+            } catch (final IOException ignored) {
+                // The server socket was closed by the test
+            }
+        }
+    }
+
+    private static void readRequest(final InputStream in) throws IOException {
+        int matched = 0;
+        int read;
+        while (matched < 4 && (read = in.read()) >= 0) {
+            matched = read == "\r\n\r\n".charAt(matched) ? matched + 1 : (read == '\r' ? 1 : 0);
+        }
+    }
+}